@@ -0,0 +1,76 @@
+package converter.benchmarks;
+
+import converter.BatchConverter;
+import converter.BatchValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares BatchValidator with the vector screen and the scalar screen against BatchConverter on the
+ * realistic mix of inputs. The scores are per number. The forks add the jdk.incubator.vector module,
+ * so this benchmark needs JDK 17 or later; vectorScreen falls back to the scalar screen if the vector
+ * jar was not built into benchmarks.jar.
+ *
+ * @version 3/18/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@OperationsPerInvocation(BatchValidatorBenchmark.SIZE)
+public class BatchValidatorBenchmark {
+
+    static final int SIZE = 1 << 16;
+
+    private String[] strings;
+    private byte[] text;
+    private int[] offsets;
+    private final int[] out = new int[SIZE];
+    private final byte[] status = new byte[SIZE];
+
+    @Setup
+    public void setup() {
+        if(!BatchValidator.isVectorized()) {
+            System.err.println("BatchValidator is using the scalar screen");
+        }
+        strings = Inputs.mixed(SIZE);
+        offsets = new int[SIZE + 1];
+        StringBuilder packed = new StringBuilder();
+        for(int i = 0; i < SIZE; i++) {
+            offsets[i] = packed.length();
+            packed.append(strings[i]);
+        }
+        offsets[SIZE] = packed.length();
+        text = packed.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Benchmark
+    public int parser() {
+        return BatchConverter.toArabic(strings, out, status);
+    }
+
+    @Benchmark
+    public int scalarScreen() {
+        return BatchValidator.toArabicScalar(text, offsets, out, status);
+    }
+
+    @Benchmark
+    public int vectorScreen() {
+        return BatchValidator.toArabic(text, offsets, out, status);
+    }
+
+}
@@ -0,0 +1,85 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures new ElbonianArabicConverter(..) for Arabic, Elbonian, malformed and mixed inputs, and
+ * tryParse on the same malformed inputs for comparison.
+ *
+ * @version 3/18/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstructorBenchmark {
+
+    private final String[] arabic = Inputs.arabic();
+    private final String[] elbonian = Inputs.elbonian();
+    private final String[] malformed = Inputs.malformed();
+    private final String[] mixed = Inputs.mixed(1 << 16);
+
+    private int index;
+
+    // Returns the next input, cycling through the array.
+    private String next(String[] inputs) {
+        index = (index + 1) % inputs.length;
+        return inputs[index];
+    }
+
+    @Benchmark
+    public Object arabic() throws Exception {
+        return new ElbonianArabicConverter(next(arabic));
+    }
+
+    @Benchmark
+    public Object elbonian() throws Exception {
+        return new ElbonianArabicConverter(next(elbonian));
+    }
+
+    @Benchmark
+    public Object malformed() {
+        try {
+            return new ElbonianArabicConverter(next(malformed));
+        } catch(Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object malformedStackless() {
+        try {
+            return new ElbonianArabicConverter(next(malformed), false);
+        } catch(Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public int malformedTryParse() {
+        return ElbonianArabicConverter.tryParse(next(malformed));
+    }
+
+    @Benchmark
+    public Object mixed() {
+        try {
+            return new ElbonianArabicConverter(next(mixed));
+        } catch(Exception e) {
+            return e;
+        }
+    }
+
+}
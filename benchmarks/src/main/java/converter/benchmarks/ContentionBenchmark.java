@@ -0,0 +1,58 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the realistic input mix on every hardware thread at once, converting each valid input to both
+ * forms, to show contention on shared tables and allocation pressure under load.
+ *
+ * @version 3/18/17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(Threads.MAX)
+public class ContentionBenchmark {
+
+    /**
+     * The inputs, shared by all threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final String[] mixed = Inputs.mixed(1 << 16);
+    }
+
+    /**
+     * Each thread's position in the inputs.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+    }
+
+    @Benchmark
+    public Object mixed(Shared shared, Cursor cursor) {
+        cursor.index = cursor.index + 1 < shared.mixed.length ? cursor.index + 1 : 0;
+        try {
+            ElbonianArabicConverter converter = new ElbonianArabicConverter(shared.mixed[cursor.index]);
+            return converter.toArabic() + converter.toElbonian().length();
+        } catch(Exception e) {
+            return e;
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures toArabic() and toElbonian() on converters for every value from 1 to 9999, in both forms.
+ * Each invocation converts the whole range, so the scores are per conversion.
+ *
+ * @version 3/18/17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@OperationsPerInvocation(9999)
+public class ConversionBenchmark {
+
+    private ElbonianArabicConverter[] arabic;
+    private ElbonianArabicConverter[] elbonian;
+
+    @Setup
+    public void setup() throws Exception {
+        arabic = converters(Inputs.arabic());
+        elbonian = converters(Inputs.elbonian());
+    }
+
+    // Creates a converter for each input.
+    static ElbonianArabicConverter[] converters(String[] inputs) throws Exception {
+        ElbonianArabicConverter[] converters = new ElbonianArabicConverter[inputs.length];
+        for(int i = 0; i < inputs.length; i++) {
+            converters[i] = new ElbonianArabicConverter(inputs[i]);
+        }
+        return converters;
+    }
+
+    @Benchmark
+    public void arabicToArabic(Blackhole blackhole) {
+        for(ElbonianArabicConverter converter : arabic) {
+            blackhole.consume(converter.toArabic());
+        }
+    }
+
+    @Benchmark
+    public void arabicToElbonian(Blackhole blackhole) {
+        for(ElbonianArabicConverter converter : arabic) {
+            blackhole.consume(converter.toElbonian());
+        }
+    }
+
+    @Benchmark
+    public void elbonianToArabic(Blackhole blackhole) {
+        for(ElbonianArabicConverter converter : elbonian) {
+            blackhole.consume(converter.toArabic());
+        }
+    }
+
+    @Benchmark
+    public void elbonianToElbonian(Blackhole blackhole) {
+        for(ElbonianArabicConverter converter : elbonian) {
+            blackhole.consume(converter.toElbonian());
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package converter.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Inputs shared by the benchmarks. Every list is built from a fixed seed so runs can be compared.
+ *
+ * @version 3/18/17
+ */
+final class Inputs {
+
+    // The seed for every random input.
+    static final long SEED = 3733;
+
+    // The share of malformed inputs in the realistic mix.
+    private static final double MALFORMED_SHARE = 0.3;
+
+    private Inputs() {
+    }
+
+    /**
+     * Returns the Arabic form of every value from 1 to 9999.
+     *
+     * @return "1" to "9999" in order
+     */
+    static String[] arabic() {
+        String[] numbers = new String[9999];
+        for(int i = 0; i < numbers.length; i++) {
+            numbers[i] = Integer.toString(i + 1);
+        }
+        return numbers;
+    }
+
+    /**
+     * Returns the Elbonian form of every value from 1 to 9999.
+     *
+     * @return "I" to "NnDdLlVv" in order
+     */
+    static String[] elbonian() {
+        String[] numbers = new String[9999];
+        for(int i = 0; i < numbers.length; i++) {
+            numbers[i] = toElbonian(i + 1);
+        }
+        return numbers;
+    }
+
+    /**
+     * Returns malformed and out of bounds inputs covering every reason the constructor rejects a number.
+     *
+     * @return The rejected inputs
+     */
+    static String[] malformed() {
+        Random random = new Random(SEED);
+        List<String> numbers = new ArrayList<>();
+        for(int i = 0; i < 1024; i++) {
+            String valid = toElbonian(1 + random.nextInt(9999));
+            switch(i % 9) {
+                case 0:
+                    numbers.add("");
+                    break;
+                case 1:
+                    numbers.add(valid.length() > 1 ? valid.charAt(0) + " " + valid.substring(1) : valid + " I");
+                    break;
+                case 2:
+                    numbers.add(valid + "#");
+                    break;
+                case 3:
+                    numbers.add(valid + random.nextInt(10));
+                    break;
+                case 4:
+                    numbers.add(Integer.toString(10000 + random.nextInt(100000)));
+                    break;
+                case 5:
+                    numbers.add(random.nextInt(9999) + "." + random.nextInt(100));
+                    break;
+                case 6:
+                    numbers.add("MMn");
+                    break;
+                case 7:
+                    numbers.add(new StringBuilder(valid).reverse().append("IIII").toString());
+                    break;
+                default:
+                    numbers.add("-" + random.nextInt(9999));
+                    break;
+            }
+        }
+        return numbers.toArray(new String[0]);
+    }
+
+    /**
+     * Returns a realistic mix of inputs: 70% valid numbers, half Arabic and half Elbonian, some with
+     * leading or trailing spaces, and 30% malformed.
+     *
+     * @param size The number of inputs
+     * @return The inputs in random order
+     */
+    static String[] mixed(int size) {
+        Random random = new Random(SEED);
+        String[] malformed = malformed();
+        String[] numbers = new String[size];
+        for(int i = 0; i < size; i++) {
+            if(random.nextDouble() < MALFORMED_SHARE) {
+                numbers[i] = malformed[random.nextInt(malformed.length)];
+                continue;
+            }
+            int value = 1 + random.nextInt(9999);
+            String number = random.nextBoolean() ? Integer.toString(value) : toElbonian(value);
+            numbers[i] = random.nextInt(10) == 0 ? " " + number + " " : number;
+        }
+        return numbers;
+    }
+
+    // Converts a value with the converter under test.
+    private static String toElbonian(int value) {
+        try {
+            return new converter.ElbonianArabicConverter(Integer.toString(value)).toElbonian();
+        } catch(Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A CharSequence view of ASCII bytes in a ByteBuffer or byte array, so the parser can read numbers straight
+ * out of the bytes without decoding them into a String first. Each byte is read as the char with the same
+ * value, so any byte outside ASCII is seen as a special character. Indexes are absolute buffer indexes and
+ * the buffer's position and limit are never changed.
+ *
+ * @version 3/18/17
+ */
+final class AsciiSequence implements CharSequence {
+
+    // The bytes being viewed, either a buffer or an array
+    private ByteBuffer buffer;
+    private byte[] array;
+
+    /**
+     * Points this view at a buffer. The view can be reused for any number of buffers.
+     *
+     * @param buffer The bytes to view
+     * @return This view
+     */
+    AsciiSequence wrap(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.array = null;
+        return this;
+    }
+
+    /**
+     * Points this view at an array. The view can be reused for any number of arrays.
+     *
+     * @param array The bytes to view
+     * @return This view
+     */
+    AsciiSequence wrap(byte[] array) {
+        this.buffer = null;
+        this.array = array;
+        return this;
+    }
+
+    /**
+     * Stops viewing the current bytes, so they are not kept reachable by a cached view.
+     */
+    void clear() {
+        this.buffer = null;
+        this.array = null;
+    }
+
+    @Override
+    public int length() {
+        return array != null ? array.length : buffer.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) ((array != null ? array[index] : buffer.get(index)) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        for(int i = start; i < end; i++) {
+            builder.append(charAt(i));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length()).toString();
+    }
+
+}
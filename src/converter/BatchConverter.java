@@ -0,0 +1,159 @@
+package converter;
+
+import java.util.List;
+
+/**
+ * This class converts whole arrays of numbers in one call, following the same rules as
+ * ElbonianArabicConverter. No objects are allocated for each element, and an invalid element is reported
+ * in its own slot instead of stopping the batch.
+ *
+ * @version 3/18/17
+ */
+public final class BatchConverter {
+
+    // The status of an element that was converted. Any other status is the FailureReason ordinal plus one.
+    public static final byte OK = 0;
+
+    private BatchConverter() {
+    }
+
+    /**
+     * Converts Arabic values to their Elbonian numerals. The strings are the shared canonical numerals, so
+     * nothing is allocated.
+     *
+     * @param in The values to convert
+     * @param out Receives the numeral for each value, or null if the value is not between 1 and 9999
+     * @return The number of values that could not be converted
+     */
+    public static int toElbonian(int[] in, String[] out) {
+        checkLength(in.length, out.length);
+        return toElbonian(in, out, 0, in.length);
+    }
+
+    // Converts in[from] up to in[to] and returns the number of values that could not be converted.
+    static int toElbonian(int[] in, String[] out, int from, int to) {
+        int failures = 0;
+        for(int i = from; i < to; i++) {
+            int value = in[i];
+            if(value >= ElbonianTable.MIN_VALUE && value <= ElbonianTable.MAX_VALUE) {
+                out[i] = ElbonianTable.toElbonian(value);
+            } else {
+                out[i] = null;
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Converts Arabic values to Elbonian numerals written one after another into a char array. The numeral
+     * for in[i] is out[offsets[i]] up to out[offsets[i + 1]]. A value that is not between 1 and 9999
+     * is written as an empty numeral.
+     *
+     * @param in The values to convert
+     * @param out Receives the numerals. 16 chars per value is always enough.
+     * @param offsets Receives the start of each numeral and the end of the last one, so it must have
+     * room for in.length + 1 entries
+     * @return The number of values that could not be converted
+     * @throws IndexOutOfBoundsException Thrown if out is too small
+     */
+    public static int toElbonian(int[] in, char[] out, int[] offsets) {
+        checkLength(in.length + 1, offsets.length);
+        int failures = 0;
+        int position = 0;
+        for(int i = 0; i < in.length; i++) {
+            offsets[i] = position;
+            int value = in[i];
+            if(value >= ElbonianTable.MIN_VALUE && value <= ElbonianTable.MAX_VALUE) {
+                String numeral = ElbonianTable.toElbonian(value);
+                numeral.getChars(0, numeral.length(), out, position);
+                position += numeral.length();
+            } else {
+                failures++;
+            }
+        }
+        offsets[in.length] = position;
+        return failures;
+    }
+
+    /**
+     * Converts Arabic values to Elbonian numerals appended one after another to a StringBuilder. The
+     * numeral for in[i] is out.substring(offsets[i], offsets[i + 1]). A value that is not between 1 and
+     * 9999 is written as an empty numeral.
+     *
+     * @param in The values to convert
+     * @param out Receives the numerals
+     * @param offsets Receives the start of each numeral and the end of the last one, so it must have
+     * room for in.length + 1 entries
+     * @return The number of values that could not be converted
+     */
+    public static int toElbonian(int[] in, StringBuilder out, int[] offsets) {
+        checkLength(in.length + 1, offsets.length);
+        int failures = 0;
+        for(int i = 0; i < in.length; i++) {
+            offsets[i] = out.length();
+            int value = in[i];
+            if(value >= ElbonianTable.MIN_VALUE && value <= ElbonianTable.MAX_VALUE) {
+                out.append(ElbonianTable.toElbonian(value));
+            } else {
+                failures++;
+            }
+        }
+        offsets[in.length] = out.length();
+        return failures;
+    }
+
+    /**
+     * Converts Elbonian or Arabic numbers to their Arabic values. Each number is parsed with
+     * ElbonianArabicConverter.tryParse, so leading and trailing spaces are allowed.
+     *
+     * @param in The numbers to convert
+     * @param out Receives the value of each number, or the negative failure from tryParse, which can be
+     * read with ElbonianArabicConverter.failureReason and failureOffset
+     * @param status Receives OK for each number that was converted, or the FailureReason ordinal plus one
+     * @return The number of numbers that could not be converted
+     */
+    public static int toArabic(CharSequence[] in, int[] out, byte[] status) {
+        checkLength(in.length, out.length);
+        checkLength(in.length, status.length);
+        return toArabic(in, out, status, 0, in.length);
+    }
+
+    // Converts in[from] up to in[to] and returns the number of numbers that could not be converted.
+    static int toArabic(CharSequence[] in, int[] out, byte[] status, int from, int to) {
+        int failures = 0;
+        for(int i = from; i < to; i++) {
+            failures += toArabic(in[i], out, status, i);
+        }
+        return failures;
+    }
+
+    // Converts in.get(from) up to in.get(to) and returns the number of numbers that could not be converted.
+    static int toArabic(List<? extends CharSequence> in, int[] out, byte[] status, int from, int to) {
+        int failures = 0;
+        for(int i = from; i < to; i++) {
+            failures += toArabic(in.get(i), out, status, i);
+        }
+        return failures;
+    }
+
+    // Converts one number into out[i] and status[i] and returns 1 if it could not be converted, otherwise 0.
+    private static int toArabic(CharSequence number, int[] out, byte[] status, int i) {
+        int result = ElbonianParser.parse(number, 0, number.length());
+        out[i] = result;
+        if(ElbonianParser.isValue(result)) {
+            status[i] = OK;
+            return 0;
+        }
+        status[i] = (byte) (ElbonianParser.code(result) + 1);
+        return 1;
+    }
+
+    // Checks that an output array has room for every element.
+    static void checkLength(int needed, int length) {
+        if(length < needed) {
+            throw new IllegalArgumentException("output array has " + length + " entries, needs " + needed);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package converter;
+
+/**
+ * This class converts batches of ASCII numbers packed one after another into a byte array. Each number is
+ * first screened for the kinds of characters it contains, several bytes at a time when the vector screen
+ * is available. Numbers made only of Elbonian symbols that break no letter rule go straight to the
+ * ordering check, short numbers made only of digits are read directly, and everything else is given to
+ * the full parser so the failure reason and offset are the same as ElbonianArabicConverter.tryParse.
+ *
+ * The vector screen uses the incubating jdk.incubator.vector API. It is loaded from the
+ * elbonian-converter-vector jar when that jar is on the class path and the JVM is started with
+ * --add-modules jdk.incubator.vector, and can be turned off with -Dconverter.vector=false.
+ *
+ * @version 3/18/17
+ */
+public final class BatchValidator {
+
+    // The screen used by toArabic, the vector screen if it could be loaded.
+    private static final SymbolScreen SCREEN = load();
+
+    private static final SymbolScreen SCALAR = new ScalarScreen();
+
+    // The longest run of digits that is read without the parser.
+    private static final int MAX_DIGITS = 4;
+
+    private BatchValidator() {
+    }
+
+    /**
+     * Returns true if toArabic screens numbers with vector instructions.
+     *
+     * @return True if the vector screen was loaded
+     */
+    public static boolean isVectorized() {
+        return !(SCREEN instanceof ScalarScreen);
+    }
+
+    /**
+     * Converts ASCII Elbonian or Arabic numbers to their Arabic values. Number i is text[offsets[i]] up to
+     * text[offsets[i + 1]], the layout written by BatchConverter.toElbonian(int[], char[], int[]).
+     * Leading and trailing spaces are allowed.
+     *
+     * @param text The numbers, one after another
+     * @param offsets The start of each number and the end of the last one
+     * @param out Receives the value of each number, or the negative failure from tryParse, with offsets
+     * that are indexes into text
+     * @param status Receives BatchConverter.OK for each number that was converted, or the FailureReason
+     * ordinal plus one
+     * @return The number of numbers that could not be converted
+     */
+    public static int toArabic(byte[] text, int[] offsets, int[] out, byte[] status) {
+        return toArabic(text, offsets, out, status, SCREEN);
+    }
+
+    /**
+     * Converts numbers the same way as toArabic, always using the scalar screen.
+     *
+     * @param text The numbers, one after another
+     * @param offsets The start of each number and the end of the last one
+     * @param out Receives the value of each number, or the negative failure from tryParse
+     * @param status Receives BatchConverter.OK for each number that was converted, or the FailureReason
+     * ordinal plus one
+     * @return The number of numbers that could not be converted
+     */
+    public static int toArabicScalar(byte[] text, int[] offsets, int[] out, byte[] status) {
+        return toArabic(text, offsets, out, status, SCALAR);
+    }
+
+    // Converts every number with the given screen.
+    private static int toArabic(byte[] text, int[] offsets, int[] out, byte[] status, SymbolScreen screen) {
+        int count = Math.max(offsets.length - 1, 0);
+        BatchConverter.checkLength(count, out.length);
+        BatchConverter.checkLength(count, status.length);
+        AsciiSequence view = new AsciiSequence().wrap(text);
+        int failures = 0;
+        for(int i = 0; i < count; i++) {
+            int result = convert(text, offsets[i], offsets[i + 1], view, screen);
+            out[i] = result;
+            if(ElbonianParser.isValue(result)) {
+                status[i] = BatchConverter.OK;
+            } else {
+                status[i] = (byte) (ElbonianParser.code(result) + 1);
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    // Converts one number, screening it before falling back to the parser.
+    private static int convert(byte[] text, int from, int to, AsciiSequence view, SymbolScreen screen) {
+        int start = from;
+        int end = to;
+        while(start < end && (text[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while(end > start && (text[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        if(start < end) {
+            int summary = screen.screen(text, start, end);
+            if((summary & (SymbolScreen.DIGIT | SymbolScreen.OTHER)) == 0) {
+                if(!ElbonianParser.breaksLetterRule(summary)) {
+                    int value = ElbonianTable.toArabic(view, start, end);
+                    if(value > 0) {
+                        return value;
+                    }
+                }
+            } else if(summary == SymbolScreen.DIGIT && end - start <= MAX_DIGITS) {
+                int value = 0;
+                for(int i = start; i < end; i++) {
+                    value = value * 10 + (text[i] - '0');
+                }
+                if(value > 0) {
+                    return value;
+                }
+            }
+        }
+        return ElbonianParser.parse(view, from, to);
+    }
+
+    // Loads the vector screen, or returns the scalar screen if it is turned off or cannot be loaded.
+    private static SymbolScreen load() {
+        if(Boolean.parseBoolean(System.getProperty("converter.vector", "true"))) {
+            try {
+                SymbolScreen screen = (SymbolScreen) Class.forName("converter.VectorScreen")
+                        .getDeclaredConstructor().newInstance();
+                byte[] sample = {'M', 'M', 'X', 'X', '1'};
+                if(screen.screen(sample, 0, sample.length) == new ScalarScreen().screen(sample, 0, sample.length)) {
+                    return screen;
+                }
+            } catch(ReflectiveOperationException | LinkageError | RuntimeException e) {
+                // The vector jar is not on the class path or jdk.incubator.vector was not added.
+            }
+        }
+        return new ScalarScreen();
+    }
+
+}
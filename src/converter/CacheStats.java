@@ -0,0 +1,85 @@
+package converter;
+
+/**
+ * The statistics of a ConverterCache at the time ConverterCache.stats() was called.
+ *
+ * @version 3/18/17
+ */
+public final class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long size;
+    private final int capacity;
+
+    CacheStats(long hits, long misses, long evictions, long size, int capacity) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the number of lookups that found their string in the cache.
+     *
+     * @return The number of hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that had to validate their string.
+     *
+     * @return The number of misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the share of lookups that were hits.
+     *
+     * @return The hit rate between 0 and 1, or 0 if there have been no lookups
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Returns the number of entries that were replaced to make room for another.
+     *
+     * @return The number of evictions
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The size
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the most entries the cache can hold.
+     *
+     * @return The capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + hits + " misses=" + misses + " hitRate=" + getHitRate() + " evictions=" + evictions
+                + " size=" + size + "/" + capacity;
+    }
+
+}
@@ -0,0 +1,58 @@
+package converter;
+
+/**
+ * The number of elements that could not be converted in one chunk of a ParallelConverter batch. The
+ * elements themselves are marked in the batch's output arrays.
+ *
+ * @version 3/18/17
+ */
+public final class ChunkReport {
+
+    // The index of the first element in the chunk
+    private final int from;
+
+    // The index after the last element in the chunk
+    private final int to;
+
+    // The number of elements in the chunk that could not be converted
+    private final int failures;
+
+    ChunkReport(int from, int to, int failures) {
+        this.from = from;
+        this.to = to;
+        this.failures = failures;
+    }
+
+    /**
+     * Returns the index of the first element in the chunk.
+     *
+     * @return The first index
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the index after the last element in the chunk.
+     *
+     * @return The end index
+     */
+    public int getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the number of elements in the chunk that could not be converted.
+     *
+     * @return The number of failures
+     */
+    public int getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + from + ", " + to + "): " + failures + " failures";
+    }
+
+}
@@ -0,0 +1,30 @@
+package converter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A Flight Recorder event for a converter being created from a valid number.
+ *
+ * @version 3/18/17
+ */
+@Name("converter.Conversion")
+@Label("Conversion")
+@Category("Elbonian Converter")
+@Description("A converter was created")
+final class ConversionEvent extends jdk.jfr.Event {
+
+    @Label("Value")
+    int value;
+
+    @Label("Length")
+    int length;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+
+}
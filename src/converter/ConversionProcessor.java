@@ -0,0 +1,234 @@
+package converter;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Flow.Processor that reads newline separated numbers from a stream of text chunks and publishes a
+ * ConversionResult for each one. A number can be split across any number of chunks; its characters are
+ * given to an IncrementalParser as they arrive, so no line is ever collected into a String. A final line
+ * without a newline is converted when the upstream completes.
+ *
+ * The processor has one subscriber and never holds more than one chunk. It requests a chunk from upstream
+ * only when the current one is used up and the subscriber has demand, and stops part way through a chunk
+ * when the demand runs out, so memory stays bounded however fast the upstream is. Signals are delivered on
+ * whichever thread delivers the chunk or the request that lets them proceed; nothing blocks.
+ *
+ * @version 3/18/17
+ */
+public final class ConversionProcessor implements Flow.Processor<CharSequence, ConversionResult> {
+
+    private final IncrementalParser parser = new IncrementalParser();
+
+    // The upstream subscription and the subscriber, set once
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super ConversionResult> downstream;
+
+    // Results the subscriber has requested and not yet received
+    private final AtomicLong demand = new AtomicLong();
+
+    // Counts calls to drain, so only one thread runs it at a time and no signal is missed
+    private final AtomicInteger work = new AtomicInteger();
+
+    // The chunk delivered by upstream and not yet taken by drain
+    private volatile CharSequence pending;
+
+    // The upstream's terminal signal
+    private volatile boolean done;
+    private volatile Throwable error;
+
+    // Set when the subscriber cancels or an invalid request is made
+    private volatile boolean cancelled;
+    private volatile Throwable requestError;
+
+    // The rest of this state is only used by drain.
+    private CharSequence chunk;
+    private int position;
+    private boolean requested;
+    private boolean terminated;
+    private long line;
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ConversionResult> subscriber) {
+        synchronized(this) {
+            if(downstream == null) {
+                downstream = subscriber;
+                subscriber.onSubscribe(new Subscription());
+                drain();
+                return;
+            }
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(new IllegalStateException("ConversionProcessor supports only one subscriber"));
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if(upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        drain();
+    }
+
+    @Override
+    public void onNext(CharSequence item) {
+        pending = item;
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    // Delivers as many results as there is demand for, requesting chunks from upstream as they are used up.
+    private void drain() {
+        if(work.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super ConversionResult> subscriber = downstream;
+            if(subscriber != null && !terminated) {
+                emit(subscriber);
+            }
+            missed = work.addAndGet(-missed);
+        } while(missed != 0);
+    }
+
+    // The body of drain, run by one thread at a time.
+    private void emit(Flow.Subscriber<? super ConversionResult> subscriber) {
+        if(cancelled) {
+            terminated = true;
+            chunk = null;
+            pending = null;
+            Flow.Subscription subscription = upstream;
+            if(subscription != null) {
+                subscription.cancel();
+            }
+            if(requestError != null) {
+                subscriber.onError(requestError);
+            }
+            return;
+        }
+        if(error != null) {
+            terminated = true;
+            subscriber.onError(error);
+            return;
+        }
+
+        long requestedResults = demand.get();
+        long emitted = 0;
+        while(true) {
+            if(chunk == null && pending != null) {
+                chunk = pending;
+                pending = null;
+                position = 0;
+                requested = false;
+            }
+            if(chunk != null) {
+                if(emitted == requestedResults) {
+                    break;
+                }
+                int result = next();
+                if(result != 0) {
+                    subscriber.onNext(new ConversionResult(++line, result));
+                    emitted++;
+                } else {
+                    chunk = null;
+                }
+                continue;
+            }
+            if(done) {
+                if(parser.isStarted()) {
+                    if(emitted == requestedResults) {
+                        break;
+                    }
+                    subscriber.onNext(new ConversionResult(++line, parser.finish()));
+                    parser.reset();
+                    emitted++;
+                }
+                terminated = true;
+                subscriber.onComplete();
+                break;
+            }
+            Flow.Subscription subscription = upstream;
+            if(!requested && subscription != null && emitted < requestedResults) {
+                requested = true;
+                subscription.request(1);
+
+                // The request may have delivered the chunk already.
+                continue;
+            }
+            break;
+        }
+        if(emitted != 0 && requestedResults != Long.MAX_VALUE) {
+            demand.addAndGet(-emitted);
+        }
+    }
+
+    // Parses the current chunk up to the end of the next line and returns its result, or 0 if the chunk
+    // ends first.
+    private int next() {
+        int length = chunk.length();
+        while(position < length) {
+            char c = chunk.charAt(position++);
+            if(c == '\n') {
+                int result = parser.finish();
+                parser.reset();
+                return result;
+            }
+            parser.accept(c);
+        }
+        return 0;
+    }
+
+    /**
+     * The subscription given to the subscriber.
+     */
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if(n <= 0) {
+                requestError = new IllegalArgumentException("request must be positive, was " + n);
+                cancelled = true;
+            } else {
+                long current;
+                long next;
+                do {
+                    current = demand.get();
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while(!demand.compareAndSet(current, next));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+    }
+
+}
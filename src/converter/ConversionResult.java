@@ -0,0 +1,83 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+/**
+ * The result of converting one number read by a ConversionProcessor: its value, or the reason it was
+ * rejected and the index in the number of the character that caused it.
+ *
+ * @version 3/18/17
+ */
+public final class ConversionResult {
+
+    // The line number of the number, starting at 1
+    private final long line;
+
+    // The value of the number, or the negative failure from the parser
+    private final int result;
+
+    ConversionResult(long line, int result) {
+        this.line = line;
+        this.result = result;
+    }
+
+    /**
+     * Returns the line number of the number in the input, starting at 1.
+     *
+     * @return The line number
+     */
+    public long getLine() {
+        return line;
+    }
+
+    /**
+     * Returns true if the number was valid.
+     *
+     * @return True if the number has a value
+     */
+    public boolean isValid() {
+        return ElbonianParser.isValue(result);
+    }
+
+    /**
+     * Returns the value of the number.
+     *
+     * @return An arabic value, or -1 if the number was not valid
+     */
+    public int getValue() {
+        return isValid() ? result : -1;
+    }
+
+    /**
+     * Returns the Elbonian numeral for the number.
+     *
+     * @return An Elbonian value, or null if the number was not valid
+     */
+    public String toElbonian() {
+        return isValid() ? ElbonianTable.toElbonian(result) : null;
+    }
+
+    /**
+     * Returns the reason the number was rejected.
+     *
+     * @return The reason, or null if the number was valid
+     */
+    public FailureReason getReason() {
+        return isValid() ? null : ElbonianParser.reason(result);
+    }
+
+    /**
+     * Returns the index in the line of the character that caused the number to be rejected.
+     *
+     * @return The index of the character, or -1 if the number was valid
+     */
+    public int getOffset() {
+        return isValid() ? -1 : ElbonianParser.offset(result);
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? line + ": " + result + " " + toElbonian() : line + ": ERR " + getReason() + " " + getOffset();
+    }
+
+}
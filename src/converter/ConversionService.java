@@ -0,0 +1,355 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Converts numbers asynchronously on a fixed number of worker threads, so conversions from any number of
+ * threads share a fixed CPU budget. Each worker has its own bounded queue, which many threads add to and
+ * only the worker takes from, and a calling thread always uses the same queue. A worker takes a request,
+ * waits up to the linger time for more until it has a full batch, and then converts and completes the
+ * whole batch together.
+ *
+ * When a queue is full the calling thread blocks until the worker makes room, so callers are slowed to
+ * the rate the workers can convert. Futures are completed on the worker threads, so dependent stages that
+ * do real work should be added with the async methods of CompletableFuture and an executor of their own.
+ * A worker never waits on a queue: a stage that runs on a worker and asks for another conversion has it
+ * converted on the spot, and a stage that calls close() gets an IllegalStateException.
+ *
+ * @version 3/18/17
+ */
+public final class ConversionService implements Closeable {
+
+    // Tells a worker to stop once everything before it in its queue is converted.
+    private static final Request STOP = new ElbonianRequest(ElbonianTable.MIN_VALUE);
+
+    private final BlockingQueue<Request>[] queues;
+    private final Worker[] workers;
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+
+    // Set once by close. A request added after it is set is taken back out, so none is left behind a STOP.
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder converted = new LongAdder();
+
+    /**
+     * Creates a service with one worker, a queue of 4096 requests, batches of up to 256 requests and a
+     * linger time of 50 microseconds.
+     */
+    public ConversionService() {
+        this(1, 4096, 256, 50, TimeUnit.MICROSECONDS);
+    }
+
+    /**
+     * Creates a service and starts its workers.
+     *
+     * @param workers The number of worker threads
+     * @param queueCapacity The number of requests each worker's queue holds before callers block
+     * @param maxBatchSize The most requests a worker converts in one batch
+     * @param maxLinger The longest a worker waits for a batch to fill after taking its first request, or 0
+     * to convert whatever is already queued
+     * @param unit The unit of maxLinger
+     * @throws IllegalArgumentException Thrown if a count is less than 1 or the linger time is negative
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public ConversionService(int workers, int queueCapacity, int maxBatchSize, long maxLinger, TimeUnit unit) {
+        if(workers < 1 || queueCapacity < 1 || maxBatchSize < 1 || maxLinger < 0) {
+            throw new IllegalArgumentException("workers, queue capacity and batch size must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerNanos = unit.toNanos(maxLinger);
+        this.queues = new BlockingQueue[workers];
+        this.workers = new Worker[workers];
+        for(int i = 0; i < workers; i++) {
+            queues[i] = new ArrayBlockingQueue<>(queueCapacity);
+            this.workers[i] = new Worker(this, queues[i], "conversion-service-" + i);
+            this.workers[i].start();
+        }
+    }
+
+    /**
+     * Converts an Arabic value to its Elbonian numeral.
+     *
+     * @param value The value to convert
+     * @return A future completed with the shared numeral, or with a ValueOutOfBoundsException if the value
+     * cannot be represented in the Elbonian number system, or a RejectedExecutionException if the service
+     * is closed
+     */
+    public CompletableFuture<String> toElbonianAsync(int value) {
+        ElbonianRequest request = new ElbonianRequest(value);
+        if(value < ElbonianTable.MIN_VALUE || value > ElbonianTable.MAX_VALUE) {
+            request.completeExceptionally(new ValueOutOfBoundsException(
+                    value == 0 ? FailureReason.ZERO : FailureReason.OUT_OF_BOUNDS, 0, false));
+            return request;
+        }
+        submit(request);
+        return request;
+    }
+
+    /**
+     * Converts an Elbonian or Arabic number to its Arabic value, following the same rules as the
+     * ElbonianArabicConverter constructor. The number is read on a worker thread, so it must not be
+     * changed until the future is complete.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return A future completed with the value, or with a MalformedNumberException or
+     * ValueOutOfBoundsException (without a stack trace) if the number is not valid, or a
+     * RejectedExecutionException if the service is closed. If reading the number throws, the future is
+     * completed with that exception.
+     * @throws NullPointerException Thrown if the number is null
+     */
+    public CompletableFuture<Integer> toArabicAsync(CharSequence number) {
+        Objects.requireNonNull(number);
+        ArabicRequest request = new ArabicRequest(number);
+        submit(request);
+        return request;
+    }
+
+    /**
+     * Returns the number of batches the workers have converted.
+     *
+     * @return The number of batches
+     */
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    /**
+     * Returns the number of requests the workers have converted, valid or not.
+     *
+     * @return The number of requests
+     */
+    public long getConvertedCount() {
+        return converted.sum();
+    }
+
+    /**
+     * Stops accepting requests, lets the workers convert every request already queued and waits for
+     * them to stop.
+     *
+     * @throws IllegalStateException Thrown if called on one of the service's workers, which would wait
+     * for itself
+     */
+    @Override
+    public void close() {
+        if(isWorker()) {
+            throw new IllegalStateException("a conversion service cannot be closed from its own worker");
+        }
+        if(!closed.compareAndSet(false, true)) {
+            return;
+        }
+        boolean interrupted = false;
+        for(int i = 0; i < queues.length; i++) {
+            while(true) {
+                try {
+                    queues[i].put(STOP);
+                    break;
+                } catch(InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            while(true) {
+                try {
+                    workers[i].join();
+                    break;
+                } catch(InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            // Requests added while the service was closing are behind the STOP. Failing them also makes
+            // room for any caller still waiting to add one.
+            for(Request request; (request = queues[i].poll()) != null; ) {
+                request.fail(new RejectedExecutionException("conversion service is closed"));
+            }
+        }
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Adds a request to the calling thread's queue, blocking while it is full. On a worker the request is
+    // converted at once instead, since a worker that waits for room in its own queue waits forever.
+    private void submit(Request request) {
+        if(closed.get()) {
+            request.fail(new RejectedExecutionException("conversion service is closed"));
+            return;
+        }
+        if(isWorker()) {
+            convert(request);
+            converted.increment();
+            return;
+        }
+        BlockingQueue<Request> queue = queues[(int) (Thread.currentThread().getId() % queues.length)];
+        try {
+            queue.put(request);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.fail(e);
+            return;
+        }
+
+        // If close started before the request was added it may be behind the STOP, where no worker will
+        // take it. Whichever of this thread and close removes it fails it.
+        if(closed.get() && queue.remove(request)) {
+            request.fail(new RejectedExecutionException("conversion service is closed"));
+        }
+    }
+
+    // Returns true if the calling thread is one of this service's workers.
+    private boolean isWorker() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof Worker && ((Worker) thread).service == this;
+    }
+
+    // Converts a request, failing it if the conversion throws.
+    private static void convert(Request request) {
+        // A CharSequence can throw from charAt, which must not stop the worker.
+        try {
+            request.convert();
+        } catch(RuntimeException e) {
+            request.fail(e);
+        }
+    }
+
+    // Takes batches from a queue and converts them until it is told to stop.
+    private void work(BlockingQueue<Request> queue) {
+        Request[] batch = new Request[maxBatchSize];
+        boolean stopping = false;
+        while(!stopping) {
+            int size = 0;
+            try {
+                Request first = queue.take();
+                long deadline = System.nanoTime() + maxLingerNanos;
+                Request request = first;
+                while(request != null) {
+                    if(request == STOP) {
+                        stopping = true;
+                        break;
+                    }
+                    batch[size++] = request;
+                    if(size == batch.length) {
+                        break;
+                    }
+                    request = queue.poll();
+                    if(request == null && maxLingerNanos > 0) {
+                        long remaining = deadline - System.nanoTime();
+                        if(remaining > 0) {
+                            request = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        }
+                    }
+                }
+            } catch(InterruptedException e) {
+                // Workers are only stopped by STOP, so that nothing queued is left incomplete.
+            }
+            if(size > 0) {
+                for(int i = 0; i < size; i++) {
+                    convert(batch[i]);
+                    batch[i] = null;
+                }
+                batches.increment();
+                converted.add(size);
+            }
+        }
+    }
+
+    /**
+     * A worker thread, which knows its service so a call from it is never queued.
+     */
+    private static final class Worker extends Thread {
+
+        private final ConversionService service;
+        private final BlockingQueue<Request> queue;
+
+        Worker(ConversionService service, BlockingQueue<Request> queue, String name) {
+            super(name);
+            this.service = service;
+            this.queue = queue;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            service.work(queue);
+        }
+
+    }
+
+    /**
+     * A queued conversion, which is also the future its caller holds.
+     */
+    private interface Request {
+
+        void convert();
+
+        void fail(Throwable error);
+
+    }
+
+    /**
+     * Converts an Arabic value to its Elbonian numeral.
+     */
+    private static final class ElbonianRequest extends CompletableFuture<String> implements Request {
+
+        private final int value;
+
+        ElbonianRequest(int value) {
+            this.value = value;
+        }
+
+        @Override
+        public void convert() {
+            complete(ElbonianTable.toElbonian(value));
+        }
+
+        @Override
+        public void fail(Throwable error) {
+            completeExceptionally(error);
+        }
+
+    }
+
+    /**
+     * Converts an Elbonian or Arabic number to its Arabic value.
+     */
+    private static final class ArabicRequest extends CompletableFuture<Integer> implements Request {
+
+        private final CharSequence number;
+
+        ArabicRequest(CharSequence number) {
+            this.number = number;
+        }
+
+        @Override
+        public void convert() {
+            int result = ElbonianParser.parse(number, 0, number.length());
+            try {
+                ElbonianArabicConverter.checkResult(result, false);
+            } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+                completeExceptionally(e);
+                return;
+            }
+            complete(result);
+        }
+
+        @Override
+        public void fail(Throwable error) {
+            completeExceptionally(error);
+        }
+
+    }
+
+}
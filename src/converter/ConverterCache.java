@@ -0,0 +1,187 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache of converters keyed by the exact string they were created from, including
+ * any leading or trailing spaces. Numbers that were rejected are cached too, so a repeated bad number is
+ * not validated again.
+ *
+ * The cache is a 4-way set associative table read and written with atomic operations, so lookups never
+ * lock and threads only touch the same memory when their strings land in the same set. When a set is
+ * full a random entry in it is evicted.
+ *
+ * @version 3/18/17
+ */
+public final class ConverterCache {
+
+    // The number of entries in each set.
+    private static final int WAYS = 4;
+
+    // The largest capacity, which still rounds up to a table an int can index.
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // The entries, WAYS at a time for each set.
+    private final AtomicReferenceArray<Entry> table;
+    private final int setMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity The most entries to hold, rounded up to a power of two of at least 4
+     * @throws IllegalArgumentException Thrown if the capacity is negative or more than 2^30
+     */
+    public ConverterCache(int capacity) {
+        if(capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 0 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        // The fewest sets that hold capacity entries, rounded up to a power of two so a hash can be masked.
+        int needed = Math.max((capacity + WAYS - 1) / WAYS, 1);
+        int sets = needed == 1 ? 1 : Integer.highestOneBit(needed - 1) << 1;
+        table = new AtomicReferenceArray<>(sets * WAYS);
+        setMask = sets - 1;
+    }
+
+    /**
+     * Returns the converter for a string, creating it the first time the string is seen. Exceptions are
+     * thrown without a stack trace, but carry the FailureReason and offset like the constructor's. Only the
+     * reason and offset of a rejection are cached, so each call for a rejected string still creates a new
+     * exception; exceptions are mutable and are not shared between callers.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return A converter for the number, shared by every caller that passes the same string
+     * @throws ValueOutOfBoundsException Thrown if the value is an Arabic integer that cannot be represented
+     * in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the value is not a valid Elbonian or Arabic number.
+     */
+    public ElbonianArabicConverter get(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        int hash = spread(number.hashCode());
+        int base = (hash & setMask) * WAYS;
+        Entry entry = null;
+        for(int i = base; i < base + WAYS; i++) {
+            Entry e = table.get(i);
+            if(e != null && e.hash == hash && e.key.equals(number)) {
+                entry = e;
+                break;
+            }
+        }
+        if(entry != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            entry = insert(create(number, hash), base);
+        }
+
+        if(entry.converter != null) {
+            return entry.converter;
+        }
+        if(entry.reason.isOutOfBounds()) {
+            throw new ValueOutOfBoundsException(entry.reason, entry.offset, false);
+        }
+        throw new MalformedNumberException(entry.reason, entry.offset, false);
+    }
+
+    /**
+     * Returns the number of hits, misses and evictions so far and the number of entries.
+     *
+     * @return A snapshot of the cache's statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size.sum(), table.length());
+    }
+
+    /**
+     * Removes every entry. The hit, miss and eviction counts are kept.
+     */
+    public void clear() {
+        for(int i = 0; i < table.length(); i++) {
+            if(table.getAndSet(i, null) != null) {
+                size.decrement();
+            }
+        }
+    }
+
+    // Validates a string that is not in the cache.
+    private static Entry create(String number, int hash) {
+        try {
+            return new Entry(number, hash, new ElbonianArabicConverter(number, false), null, 0);
+        } catch(MalformedNumberException e) {
+            return new Entry(number, hash, null, e.getReason(), e.getOffset());
+        } catch(ValueOutOfBoundsException e) {
+            return new Entry(number, hash, null, e.getReason(), e.getOffset());
+        }
+    }
+
+    // Puts an entry in an empty slot of its set, or in place of a random entry if the set is full, and
+    // returns the entry that is cached for its key. If another thread cached the key first its entry is
+    // returned instead, so both callers share one converter. The size only changes when an empty slot is
+    // filled, so an eviction that races with clear cannot make it drift.
+    private Entry insert(Entry entry, int base) {
+        while(true) {
+            int empty = -1;
+            for(int i = base; i < base + WAYS; i++) {
+                Entry e = table.get(i);
+                if(e == null) {
+                    if(empty < 0) {
+                        empty = i;
+                    }
+                } else if(e.hash == entry.hash && e.key.equals(entry.key)) {
+                    return e;
+                }
+            }
+            if(empty >= 0) {
+                if(table.compareAndSet(empty, null, entry)) {
+                    size.increment();
+                    return entry;
+                }
+            } else {
+                int victim = base + ThreadLocalRandom.current().nextInt(WAYS);
+                Entry old = table.get(victim);
+                if(old != null && table.compareAndSet(victim, old, entry)) {
+                    evictions.increment();
+                    return entry;
+                }
+            }
+
+            // Another thread changed the set, so it is read again.
+        }
+    }
+
+    // Mixes the high bits of a hash code into the low bits used to pick a set.
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A cached string and its converter, or the reason it was rejected.
+     */
+    private static final class Entry {
+
+        final String key;
+        final int hash;
+        final ElbonianArabicConverter converter;
+        final FailureReason reason;
+        final int offset;
+
+        Entry(String key, int hash, ElbonianArabicConverter converter, FailureReason reason, int offset) {
+            this.key = key;
+            this.hash = hash;
+            this.converter = converter;
+            this.reason = reason;
+            this.offset = offset;
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters, a latency histogram and Flight Recorder events for the ElbonianArabicConverter constructor.
+ * Rejections are counted by FailureReason, so a storm of malformed input can be told apart from slow
+ * valid traffic.
+ *
+ * Metrics are off unless the JVM is started with -Dconverter.metrics=true or setEnabled(true) is called.
+ * When they are off, each instrumented call only reads one flag.
+ *
+ * @version 3/18/17
+ */
+public final class ConverterMetrics {
+
+    // True to record metrics. Read on every instrumented call.
+    private static volatile boolean enabled = Boolean.getBoolean("converter.metrics");
+
+    private static final FailureReason[] REASONS = FailureReason.values();
+
+    private static final LongAdder CONSTRUCTIONS = new LongAdder();
+    private static final LongAdder[] REJECTIONS = new LongAdder[REASONS.length];
+
+    private static final LatencyHistogram CONSTRUCTION_LATENCY = new LatencyHistogram();
+
+    static {
+        for(int i = 0; i < REJECTIONS.length; i++) {
+            REJECTIONS[i] = new LongAdder();
+        }
+    }
+
+    private ConverterMetrics() {
+    }
+
+    /**
+     * Returns true if metrics are being recorded.
+     *
+     * @return True if metrics are on
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns metrics on or off. Counts recorded so far are kept.
+     *
+     * @param enabled True to record metrics
+     */
+    public static void setEnabled(boolean enabled) {
+        ConverterMetrics.enabled = enabled;
+    }
+
+    /**
+     * Sets every counter and histogram back to 0.
+     */
+    public static void reset() {
+        CONSTRUCTIONS.reset();
+        for(LongAdder rejections : REJECTIONS) {
+            rejections.reset();
+        }
+        CONSTRUCTION_LATENCY.reset();
+    }
+
+    /**
+     * Returns the current counts. The counters keep running while the snapshot is taken, so counts
+     * recorded at the same time may or may not be included.
+     *
+     * @return A snapshot of the metrics
+     */
+    public static MetricsSnapshot snapshot() {
+        long[] rejections = new long[REJECTIONS.length];
+        for(int i = 0; i < rejections.length; i++) {
+            rejections[i] = REJECTIONS[i].sum();
+        }
+        return new MetricsSnapshot(CONSTRUCTIONS.sum(), rejections,
+                new LatencySnapshot(CONSTRUCTION_LATENCY.counts()));
+    }
+
+    /**
+     * Records one call to the constructor.
+     *
+     * @param result The result of parsing the number
+     * @param length The length of the string passed to the constructor
+     * @param nanos How long the constructor took
+     */
+    static void recordConstruction(int result, int length, long nanos) {
+        CONSTRUCTIONS.increment();
+        CONSTRUCTION_LATENCY.record(nanos);
+        if(ElbonianParser.isValue(result)) {
+            ConversionEvent event = new ConversionEvent();
+            if(event.shouldCommit()) {
+                event.value = result;
+                event.length = length;
+                event.latency = nanos;
+                event.commit();
+            }
+        } else {
+            REJECTIONS[ElbonianParser.code(result)].increment();
+            RejectionEvent event = new RejectionEvent();
+            if(event.shouldCommit()) {
+                event.reason = ElbonianParser.reason(result).name();
+                event.offset = ElbonianParser.offset(result);
+                event.length = length;
+                event.latency = nanos;
+                event.commit();
+            }
+        }
+    }
+
+}
@@ -1,12 +1,9 @@
 package converter;
 
+import converter.exceptions.FailureReason;
 import converter.exceptions.MalformedNumberException;
 import converter.exceptions.ValueOutOfBoundsException;
 
-import java.util.HashMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 
 /**
  * This class implements a converter that takes a string that represents a number in either the
@@ -16,8 +13,12 @@ import java.util.regex.Pattern;
  */
 public class ElbonianArabicConverter {
 
-    // A string that holds the number (Elbonian or Arabic) you would like to convert
-    private final String number;
+    // The value of the number, found once when the converter is created
+    private final int value;
+
+    // The Elbonian numeral for the number. A valid Elbonian input is already the canonical numeral, so
+    // this is the shared string from the table whichever form the number was given in.
+    private final String numeral;
 
     /**
      * Constructor for the ElbonianArabic class that takes a string. The string should contain a valid
@@ -34,105 +35,125 @@ public class ElbonianArabicConverter {
 	 * Leading and trailing spaces should not throw an error.
      */
     public ElbonianArabicConverter(String number) throws MalformedNumberException, ValueOutOfBoundsException {
-        String number1;
-
-        // Removes leading and trailing spaces.
-        number = number.trim();
-
-        // Accounts for empty String.
-        if(number.length() == 0) {
-            throw new MalformedNumberException("number is an empty string");
-        }
+        this(number, true);
+    }
 
-        if(number.equals("0")) {
-            throw new ValueOutOfBoundsException(("its 0"));
+    /**
+     * Constructor for the ElbonianArabic class that can skip filling in the stack trace of the exceptions it
+     * throws. The exceptions still carry the FailureReason and the index of the character that caused it,
+     * which is all most callers need, and are much cheaper to create when many invalid numbers are rejected.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @param stackTrace False to throw exceptions without a stack trace
+     * @throws ValueOutOfBoundsException Thrown if the value is an Arabic integer that cannot be represented
+     * in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the value is not a valid Elbonian or Arabic number.
+     */
+    public ElbonianArabicConverter(String number, boolean stackTrace) throws MalformedNumberException, ValueOutOfBoundsException {
+        // Classifies, validates and computes the value of number in a single pass.
+        boolean metrics = ConverterMetrics.isEnabled();
+        long start = metrics ? System.nanoTime() : 0;
+        int result = ElbonianParser.parse(number, 0, number.length());
+        try {
+            checkResult(result, stackTrace);
+        } finally {
+            // Recorded after checkResult so the latency of a rejection includes creating its exception.
+            if(metrics) {
+                ConverterMetrics.recordConstruction(result, number.length(), System.nanoTime() - start);
+            }
         }
 
-        // Removes any 0s at the beginning of the number.
-//        while((int)number.charAt(0) == 48) {
-//            number = number.substring(1);
-//        }
+        this.value = result;
+        this.numeral = ElbonianTable.toElbonian(result);
+    }
 
-        // Checks for any spaces in the middle of number.
-        for(int i = 0; i < number.length(); i++) {
-            if(number.charAt(i) == ' ') {
-                throw new MalformedNumberException("number has spaces in between");
-            }
-        }
+    /**
+     * Returns a shared converter for a string, validating the string only the first time it is seen.
+     * Both converters and rejections are kept in a bounded cache keyed by the exact string, so " 99 " and
+     * "99" are cached separately. Exceptions are thrown without a stack trace. The size of the cache is set
+     * with the converter.cache.size system property and its statistics are returned by cacheStats.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return A converter for the number
+     * @throws ValueOutOfBoundsException Thrown if the value is an Arabic integer that cannot be represented
+     * in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the value is not a valid Elbonian or Arabic number.
+     */
+    public static ElbonianArabicConverter of(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return Cache.INSTANCE.get(number);
+    }
 
-        boolean arabic = false;
+    /**
+     * Returns the statistics of the cache used by of.
+     *
+     * @return The hits, misses, evictions and size of the cache
+     */
+    public static CacheStats cacheStats() {
+        return Cache.INSTANCE.stats();
+    }
 
+    /**
+     * Holds the cache used by of, so it is only created if of is called.
+     */
+    private static final class Cache {
+        static final ConverterCache INSTANCE = new ConverterCache(Integer.getInteger("converter.cache.size", 16384));
+    }
 
-        // First checks if number is a sequence of letters. If it is not, the parseDouble will through a NumberFormatException.
-        // The Catch statement will then check if number is an alphanumeric. If it is, it will throw an exception.
-        // If it is not an alphanumeric, then it will check if number is within the bounds. If not, it will throw an exception.
-        // If it is within the bounds, it will check if the number is a decimal. If it is, it will throw an exception.
-        // If the number passes all these tests in the catch statement, then it is deemed an arabic number.
-        // If the try statement works, then the number is deemed as a elbonian number.
-        try {
-            Double.parseDouble(number);
-            if(Double.parseDouble(number) < 1 || Double.parseDouble(number) > 9999) {
-                throw new ValueOutOfBoundsException("number is out of bounds");
-            } else if(number.contains(".")) {
-                throw new MalformedNumberException("number is a decimal");
-            } else {
-                arabic = true;
-            }
-        } catch (NumberFormatException ne) {
-
-            String numRegex   = ".*[0-9].*";
-            String alphaRegex = ".*[A-Z].*";
-            String lowerAlphaRegex = ".*[a-z].*";
-            Pattern p = Pattern.compile("[^a-z0-9 ]", Pattern.CASE_INSENSITIVE);
-            Matcher m = p.matcher(number);
-            boolean b = m.find();
-            if(b) {
-                throw new MalformedNumberException("number has a special character");
-            }
-            if(number.matches(numRegex) && (number.matches(alphaRegex) || number.matches(lowerAlphaRegex))) {
-                throw new MalformedNumberException("number is an alphanumeric");
-            } else if (number.matches(alphaRegex) || number.matches(lowerAlphaRegex) || !number.matches(numRegex)) {
-                p = Pattern.compile("[^a-z0-9 ]", Pattern.CASE_INSENSITIVE);
-                m = p.matcher(number);
-                b = m.find();
-                if(b) {
-                    throw new MalformedNumberException("number has a special character");
-                }
-            } else {
-                if(Double.parseDouble(number) < 1 || Double.parseDouble(number) > 9999) {
-                    throw new ValueOutOfBoundsException("number is out of bounds");
-                }
-                if(Double.parseDouble(number) != Integer.parseInt(number)) {
-                    throw new MalformedNumberException("number is a decimal");
-                }
-                arabic = true;
-            }
-        }
+    /**
+     * Parses a string that represents a number in either the Elbonian or Arabic numeral form, following
+     * the same rules as the constructor. Instead of throwing an exception for an invalid number, this
+     * returns a negative result that holds the reason and the index of the character that caused it, which
+     * can be read with failureReason and failureOffset. No objects are allocated.
+     *
+     * @param number The characters to read
+     * @param from The index of the first character of the number
+     * @param to The index after the last character of the number
+     * @return The value of the number (between 1 and 9999), or a negative failure
+     */
+    public static int tryParse(CharSequence number, int from, int to) {
+        return ElbonianParser.parse(number, from, to);
+    }
 
-        // Runs if the number is determined to be non-arabic
-        if(!arabic) {
+    /**
+     * Parses a string that represents a number in either the Elbonian or Arabic numeral form without
+     * throwing an exception. See tryParse(CharSequence, int, int).
+     *
+     * @param number The characters to read
+     * @return The value of the number (between 1 and 9999), or a negative failure
+     */
+    public static int tryParse(CharSequence number) {
+        return ElbonianParser.parse(number, 0, number.length());
+    }
 
-            // Checks if number violates the rule that if ____ letter exists, ____ cannot exist
-            if((number.contains("n") && number.contains("M"))
-                    || (number.contains("d") && number.contains("C"))
-                    || (number.contains("l") && number.contains("X"))
-                    || (number.contains("v") && number.contains("I")))
-            {
-                throw new MalformedNumberException("number fails the if ___ letter exists, ___ cannot exist rule");
-            }
+    /**
+     * Returns true if the result of tryParse is a value rather than a failure.
+     *
+     * @param result The result of tryParse
+     * @return True if the number was valid
+     */
+    public static boolean isValid(int result) {
+        return ElbonianParser.isValue(result);
+    }
 
-            //Checks if letters are in order of greatest magnitude and have the correct quantity.
-            String[] s = new String[] {"N", "n", "M", "D", "d", "C", "L", "l", "X", "V", "v", "I"};
-            Pattern regex = Pattern.compile(s[0]+ "??" + s[1] + "??" + s[2]
-                    + "{0,3}?" + s[3] + "??" + s[4] + "??" + s[5] + "{0,3}?"
-                    + s[6] + "??" + s[7] + "??" + s[8] + "{0,3}?" + s[9] + "??"
-                    + s[10] + "??" + s[11] + "{0,3}?");
-            if(!regex.matcher(number).matches()) {
-                throw new MalformedNumberException("Skill issue lol");
-            }
-        }
+    /**
+     * Returns the reason a number was rejected by tryParse.
+     *
+     * @param result A negative result of tryParse
+     * @return The reason the number is invalid
+     */
+    public static FailureReason failureReason(int result) {
+        return ElbonianParser.reason(result);
+    }
 
-        this.number = number;
+    /**
+     * Returns the index of the character that caused tryParse to reject a number. Out of bounds values are
+     * reported at the start of the number.
+     *
+     * @param result A negative result of tryParse
+     * @return The index of the character in the sequence that was parsed
+     */
+    public static int failureOffset(int result) {
+        return ElbonianParser.offset(result);
     }
 
     /**
@@ -142,31 +163,7 @@ public class ElbonianArabicConverter {
      * @return An arabic value
      */
     public int toArabic() {
-        int total = 0;
-        HashMap<Character, Integer> data = new HashMap<Character, Integer>();
-        data.put('N', 5000);
-        data.put('n', 4000);
-        data.put('M', 1000);
-        data.put('D', 500);
-        data.put('d', 400);
-        data.put('C', 100);
-        data.put('L', 50);
-        data.put('l', 40);
-        data.put('X', 10);
-        data.put('V', 5);
-        data.put('v', 4);
-        data.put('I', 1);
-
-        try {
-            Integer.parseInt(this.number);
-        } catch (NumberFormatException ne) {
-            for(int i = 0; i < this.number.length(); i++) {
-                total += data.get(this.number.charAt(i));
-            }
-            return total;
-        }
-
-        return Integer.parseInt(this.number);
+        return value;
     }
 
     /**
@@ -175,54 +172,18 @@ public class ElbonianArabicConverter {
      * @return An Elbonian value
      */
     public String toElbonian() {
-        String total = "";
+        return numeral;
+    }
 
-        try {
-            Integer.parseInt(this.number);
-        } catch (NumberFormatException ne) {
-            return this.number;
-        }
-        int temp = Integer.parseInt(this.number);
-        while(temp != 0) {
-            if(temp - 5000 >= 0) {
-                total = total + "N";
-                temp -= 5000;
-            } else if (temp - 4000 >= 0) {
-                total = total + "n";
-                temp -= 4000;
-            } else if (temp - 1000 >= 0) {
-                total = total + "M";
-                temp -= 1000;
-            } else if (temp - 500 >= 0) {
-                total = total + "D";
-                temp -= 500;
-            } else if (temp - 400 >= 0) {
-                total = total + "d";
-                temp -= 400;
-            } else if (temp - 100 >= 0) {
-                total = total + "C";
-                temp -= 100;
-            } else if (temp - 50 >= 0) {
-                total = total + "L";
-                temp -= 50;
-            } else if (temp - 40 >= 0) {
-                total = total + "l";
-                temp -= 40;
-            } else if (temp - 10 >= 0) {
-                total = total + "X";
-                temp -= 10;
-            } else if (temp - 5 >= 0) {
-                total = total + "V";
-                temp -= 5;
-            } else if (temp - 4 >= 0) {
-                total = total + "v";
-                temp -= 4;
-            } else if (temp - 1 >= 0) {
-                total = total + "I";
-                temp -= 1;
+    // Throws the exception for a failed parse, or returns if the parse succeeded.
+    static void checkResult(int result, boolean stackTrace) throws MalformedNumberException, ValueOutOfBoundsException {
+        if(!ElbonianParser.isValue(result)) {
+            FailureReason reason = ElbonianParser.reason(result);
+            if(reason.isOutOfBounds()) {
+                throw new ValueOutOfBoundsException(reason, ElbonianParser.offset(result), stackTrace);
             }
+            throw new MalformedNumberException(reason, ElbonianParser.offset(result), stackTrace);
         }
-        return total;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,117 @@
+package converter;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * This class reads Arabic or Elbonian numbers straight out of ASCII bytes and writes Elbonian numerals
+ * straight into ASCII bytes, for numbers that come from and go back to network frames. No String is
+ * created on either side.
+ *
+ * Decoding follows the same rules as ElbonianArabicConverter.tryParse and returns the same results, which
+ * can be read with ElbonianArabicConverter.isValid, failureReason and failureOffset. Offsets are indexes
+ * into the buffer or array.
+ *
+ * @version 3/18/17
+ */
+public final class ElbonianCodec {
+
+    // A view for each thread, so decoding does not allocate one per call.
+    private static final ThreadLocal<AsciiSequence> VIEW = ThreadLocal.withInitial(AsciiSequence::new);
+
+    private ElbonianCodec() {
+    }
+
+    /**
+     * Decodes the number between two indexes of a buffer. The buffer's position and limit are not used
+     * or changed.
+     *
+     * @param buffer The bytes to read
+     * @param from The index of the first byte of the number
+     * @param to The index after the last byte of the number
+     * @return The value of the number (between 1 and 9999), or a negative failure
+     */
+    public static int decode(ByteBuffer buffer, int from, int to) {
+        AsciiSequence view = VIEW.get().wrap(buffer);
+        try {
+            return ElbonianParser.parse(view, from, to);
+        } finally {
+            view.clear();
+        }
+    }
+
+    /**
+     * Decodes the number in the remaining bytes of a buffer, from its position to its limit. The
+     * position is not changed.
+     *
+     * @param buffer The bytes to read
+     * @return The value of the number (between 1 and 9999), or a negative failure
+     */
+    public static int decode(ByteBuffer buffer) {
+        return decode(buffer, buffer.position(), buffer.limit());
+    }
+
+    /**
+     * Decodes the number between two indexes of an array.
+     *
+     * @param bytes The bytes to read
+     * @param from The index of the first byte of the number
+     * @param to The index after the last byte of the number
+     * @return The value of the number (between 1 and 9999), or a negative failure
+     */
+    public static int decode(byte[] bytes, int from, int to) {
+        AsciiSequence view = VIEW.get().wrap(bytes);
+        try {
+            return ElbonianParser.parse(view, from, to);
+        } finally {
+            view.clear();
+        }
+    }
+
+    /**
+     * Writes the Elbonian numeral for a value at the buffer's position and advances the position.
+     *
+     * @param value A value between 1 and 9999
+     * @param buffer The buffer to write to
+     * @return The number of bytes written, or -1 if the value is out of bounds and nothing was written
+     * @throws BufferOverflowException Thrown if the numeral does not fit in the remaining bytes, in which
+     * case nothing is written
+     */
+    public static int encode(int value, ByteBuffer buffer) {
+        if(value < ElbonianTable.MIN_VALUE || value > ElbonianTable.MAX_VALUE) {
+            return -1;
+        }
+        String numeral = ElbonianTable.toElbonian(value);
+        if(buffer.remaining() < numeral.length()) {
+            throw new BufferOverflowException();
+        }
+        for(int i = 0; i < numeral.length(); i++) {
+            buffer.put((byte) numeral.charAt(i));
+        }
+        return numeral.length();
+    }
+
+    /**
+     * Writes the Elbonian numeral for a value into an array.
+     *
+     * @param value A value between 1 and 9999
+     * @param bytes The array to write to. 16 bytes is always enough.
+     * @param offset The index to write the first byte at
+     * @return The number of bytes written, or -1 if the value is out of bounds and nothing was written
+     * @throws IndexOutOfBoundsException Thrown if the numeral does not fit, in which case nothing is written
+     */
+    public static int encode(int value, byte[] bytes, int offset) {
+        if(value < ElbonianTable.MIN_VALUE || value > ElbonianTable.MAX_VALUE) {
+            return -1;
+        }
+        String numeral = ElbonianTable.toElbonian(value);
+        if(offset < 0 || bytes.length - offset < numeral.length()) {
+            throw new IndexOutOfBoundsException("numeral needs " + numeral.length() + " bytes at " + offset);
+        }
+        for(int i = 0; i < numeral.length(); i++) {
+            bytes[offset + i] = (byte) numeral.charAt(i);
+        }
+        return numeral.length();
+    }
+
+}
@@ -0,0 +1,119 @@
+package converter;
+
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+
+/**
+ * A NumberFormat that writes and reads Elbonian numerals, so they can be used in MessageFormat patterns
+ * and other java.text code without creating a converter for each value. Formatting appends the shared
+ * numeral from the table. Parsing reads the numeral in place, starting at the ParsePosition index, and
+ * reports an invalid numeral through the error index instead of an exception.
+ *
+ * The format has no state that affects formatting or parsing, so one instance can be shared by any number
+ * of threads. The grouping, fraction digit and integer only settings inherited from NumberFormat are ignored.
+ *
+ * @version 3/18/17
+ */
+public final class ElbonianFormat extends NumberFormat {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an Elbonian format.
+     */
+    public ElbonianFormat() {
+        super.setParseIntegerOnly(true);
+        super.setGroupingUsed(false);
+    }
+
+    /**
+     * Appends the Elbonian numeral for a value. The integer field of the position is set to the numeral.
+     *
+     * @param number A value between 1 and 9999
+     * @param toAppendTo Where to append the numeral
+     * @param pos The field to report the position of
+     * @return toAppendTo
+     * @throws IllegalArgumentException Thrown if the value cannot be represented in the Elbonian number system
+     */
+    @Override
+    public StringBuffer format(long number, StringBuffer toAppendTo, FieldPosition pos) {
+        if(number < ElbonianTable.MIN_VALUE || number > ElbonianTable.MAX_VALUE) {
+            throw new IllegalArgumentException(number + " is out of the Elbonian range");
+        }
+        int begin = toAppendTo.length();
+        toAppendTo.append(ElbonianTable.toElbonian((int) number));
+        if(pos.getFieldAttribute() == NumberFormat.Field.INTEGER || pos.getField() == INTEGER_FIELD) {
+            pos.setBeginIndex(begin);
+            pos.setEndIndex(toAppendTo.length());
+        } else {
+            pos.setBeginIndex(0);
+            pos.setEndIndex(0);
+        }
+        return toAppendTo;
+    }
+
+    /**
+     * Appends the Elbonian numeral for a value that is a whole number. See format(long, StringBuffer,
+     * FieldPosition).
+     *
+     * @param number A whole number between 1 and 9999
+     * @param toAppendTo Where to append the numeral
+     * @param pos The field to report the position of
+     * @return toAppendTo
+     * @throws IllegalArgumentException Thrown if the value is not a whole number between 1 and 9999
+     */
+    @Override
+    public StringBuffer format(double number, StringBuffer toAppendTo, FieldPosition pos) {
+        if(number != Math.rint(number) || number < ElbonianTable.MIN_VALUE || number > ElbonianTable.MAX_VALUE) {
+            throw new IllegalArgumentException(number + " is not a whole number in the Elbonian range");
+        }
+        return format((long) number, toAppendTo, pos);
+    }
+
+    /**
+     * Reads an Elbonian numeral starting at the index of the position. The numeral is the run of letters
+     * that starts there. If it is valid the index is moved past it and its value is returned as the shared
+     * ElbonianNumber, so nothing is allocated. Otherwise the index is left unchanged, the error index is set
+     * to the first character that makes the numeral invalid, and null is returned.
+     *
+     * @param source The text to read
+     * @param parsePosition The index to start at, updated as described above
+     * @return The value of the numeral, or null if there is no valid numeral at the index
+     */
+    @Override
+    public Number parse(String source, ParsePosition parsePosition) {
+        int start = parsePosition.getIndex();
+        int end = start;
+        while(end < source.length() && isLetter(source.charAt(end))) {
+            end++;
+        }
+        if(end == start) {
+            parsePosition.setErrorIndex(start);
+            return null;
+        }
+        int result = ElbonianParser.parse(source, start, end);
+        if(!ElbonianParser.isValue(result)) {
+            parsePosition.setErrorIndex(ElbonianParser.offset(result));
+            return null;
+        }
+        parsePosition.setIndex(end);
+        return ElbonianNumber.shared(result);
+    }
+
+    @Override
+    public void setParseIntegerOnly(boolean value) {
+        // Elbonian numerals are always whole numbers.
+    }
+
+    @Override
+    public void setGroupingUsed(boolean newValue) {
+        // Elbonian numerals are never grouped.
+    }
+
+    // Returns true if a character can be part of a numeral candidate.
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+}
@@ -0,0 +1,194 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.InvalidObjectException;
+
+/**
+ * An immutable Elbonian number stored as a 16 bit value, so arithmetic and comparisons work on the value
+ * directly and the Elbonian numeral is only looked up when it is asked for. There is one shared instance
+ * for each value from 1 to 9999, so holding many numbers costs one reference each.
+ *
+ * @version 3/18/17
+ */
+public final class ElbonianNumber extends Number implements Comparable<ElbonianNumber> {
+
+    private static final long serialVersionUID = 1L;
+
+    // Smallest and largest values that can be written in the Elbonian number system.
+    public static final int MIN_VALUE = ElbonianTable.MIN_VALUE;
+    public static final int MAX_VALUE = ElbonianTable.MAX_VALUE;
+
+    // The shared instance for each value. Index 0 is unused.
+    private static final ElbonianNumber[] VALUES = new ElbonianNumber[MAX_VALUE + 1];
+
+    static {
+        for(int value = MIN_VALUE; value <= MAX_VALUE; value++) {
+            VALUES[value] = new ElbonianNumber((short) value);
+        }
+    }
+
+    // The value, between MIN_VALUE and MAX_VALUE
+    private final short value;
+
+    private ElbonianNumber(short value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the number with the given value.
+     *
+     * @param value The value, between 1 and 9999
+     * @return The shared instance for the value
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number
+     * system.
+     */
+    public static ElbonianNumber valueOf(int value) throws ValueOutOfBoundsException {
+        if(!isInRange(value)) {
+            throw new ValueOutOfBoundsException(value == 0 ? FailureReason.ZERO : FailureReason.OUT_OF_BOUNDS, 0, true);
+        }
+        return VALUES[value];
+    }
+
+    /**
+     * Parses a string that represents a number in either the Elbonian or Arabic numeral form, following
+     * the same rules as the ElbonianArabicConverter constructor.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @return The shared instance for the value of the number
+     * @throws ValueOutOfBoundsException Thrown if the value is an Arabic integer that cannot be represented
+     * in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the value is not a valid Elbonian or Arabic number.
+     */
+    public static ElbonianNumber parse(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        int result = ElbonianParser.parse(number, 0, number.length());
+        ElbonianArabicConverter.checkResult(result, true);
+        return VALUES[result];
+    }
+
+    /**
+     * Returns true if a value can be represented in the Elbonian number system.
+     *
+     * @param value The value to check
+     * @return True if the value is between 1 and 9999
+     */
+    public static boolean isInRange(int value) {
+        return value >= MIN_VALUE && value <= MAX_VALUE;
+    }
+
+    /**
+     * Returns the sum of this number and another.
+     *
+     * @param other The number to add
+     * @return The sum
+     * @throws ArithmeticException Thrown if the sum is greater than 9999
+     */
+    public ElbonianNumber add(ElbonianNumber other) {
+        return result(value + other.value);
+    }
+
+    /**
+     * Returns the difference of this number and another.
+     *
+     * @param other The number to subtract
+     * @return The difference
+     * @throws ArithmeticException Thrown if the difference is less than 1
+     */
+    public ElbonianNumber subtract(ElbonianNumber other) {
+        return result(value - other.value);
+    }
+
+    /**
+     * Returns the product of this number and another.
+     *
+     * @param other The number to multiply by
+     * @return The product
+     * @throws ArithmeticException Thrown if the product is greater than 9999
+     */
+    public ElbonianNumber multiply(ElbonianNumber other) {
+        return result(value * other.value);
+    }
+
+    // Returns the shared instance for a value that is already known to be in range.
+    static ElbonianNumber shared(int value) {
+        return VALUES[value];
+    }
+
+    // Returns the number for the result of an operation, which cannot overflow an int.
+    private static ElbonianNumber result(int value) {
+        if(!isInRange(value)) {
+            throw new ArithmeticException(value + " is out of the Elbonian range " + MIN_VALUE + " to " + MAX_VALUE);
+        }
+        return VALUES[value];
+    }
+
+    /**
+     * Returns the Elbonian numeral for the number. The numeral is a shared string, so nothing is allocated.
+     *
+     * @return An Elbonian value
+     */
+    public String toElbonian() {
+        return ElbonianTable.toElbonian(value);
+    }
+
+    @Override
+    public int intValue() {
+        return value;
+    }
+
+    @Override
+    public long longValue() {
+        return value;
+    }
+
+    @Override
+    public float floatValue() {
+        return value;
+    }
+
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public short shortValue() {
+        return value;
+    }
+
+    @Override
+    public int compareTo(ElbonianNumber other) {
+        return Short.compare(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ElbonianNumber && ((ElbonianNumber) other).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return value;
+    }
+
+    /**
+     * Returns the Elbonian numeral for the number.
+     *
+     * @return An Elbonian value
+     */
+    @Override
+    public String toString() {
+        return toElbonian();
+    }
+
+    // Replaces a deserialized number with the shared instance, rejecting a stream with a value out of range.
+    private Object readResolve() throws InvalidObjectException {
+        if(value < MIN_VALUE || value > MAX_VALUE) {
+            throw new InvalidObjectException(value + " is out of the Elbonian range");
+        }
+        return VALUES[value];
+    }
+
+}
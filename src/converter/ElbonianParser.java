@@ -0,0 +1,286 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+/**
+ * A single pass scanner that classifies a string as an Arabic or Elbonian number, checks that it is valid
+ * and computes its value. It follows the same rules as the ElbonianArabicConverter constructor without
+ * using regular expressions, Double.parseDouble or exceptions.
+ *
+ * The result of a parse is the value of the number (between 1 and 9999), or a negative number that
+ * encodes the FailureReason and the index of the character that caused it.
+ *
+ * @version 3/18/17
+ */
+final class ElbonianParser {
+
+    // Failure codes, the ordinals of FailureReason.
+    static final int EMPTY = 0;
+    static final int ZERO = 1;
+    static final int SPACE = 2;
+    static final int SPECIAL_CHARACTER = 3;
+    static final int ALPHANUMERIC = 4;
+    static final int OUT_OF_BOUNDS = 5;
+    static final int DECIMAL = 6;
+    static final int LETTER_RULE = 7;
+    static final int ORDERING = 8;
+
+    // A failure is stored as ~(offset << REASON_BITS | code).
+    private static final int REASON_BITS = 4;
+
+    // The largest offset that fits in a failure. Larger offsets are reported as this value.
+    static final int MAX_OFFSET = Integer.MAX_VALUE >>> REASON_BITS;
+
+    private static final FailureReason[] REASONS = FailureReason.values();
+
+    // The letter rules of ElbonianTable.EXCLUSIVE as masks of two symbol bits.
+    private static final int[] LETTER_RULE_MASKS = new int[ElbonianTable.EXCLUSIVE.length];
+
+    static {
+        for(int i = 0; i < LETTER_RULE_MASKS.length; i++) {
+            String pair = ElbonianTable.EXCLUSIVE[i];
+            LETTER_RULE_MASKS[i] = mask(pair.charAt(0), pair.charAt(1));
+        }
+    }
+
+    // A decimal is compared as a double, so these are the fractions at which it rounds onto a bound.
+    // 0.f rounds up to 1.0 when f >= 1 - 2^-54, and 9999.f rounds above 9999.0 when f > 2^-40.
+    private static final String ROUNDS_TO_MIN = "999999999999999944488848768742172978818416595458984375";
+    private static final String ROUNDS_ABOVE_MAX = "0000000000009094947017729282379150390625";
+
+    private ElbonianParser() {
+    }
+
+    /**
+     * Parses the number in the given range of characters. Leading and trailing characters up to and
+     * including the space character are ignored, the same as String.trim().
+     *
+     * @param s The characters to read
+     * @param from The index of the first character
+     * @param to The index after the last character
+     * @return The value of the number, or a negative failure
+     */
+    static int parse(CharSequence s, int from, int to) {
+        int start = from;
+        int end = to;
+        while(start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while(end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if(start == end) {
+            return failure(EMPTY, start);
+        }
+        if(end - start == 1 && s.charAt(start) == '0') {
+            return failure(ZERO, start);
+        }
+
+        // Arabic state. The number stays a decimal while it matches [+-]?[0-9]*(\.[0-9]*)?
+        boolean decimal = true;
+        boolean negative = false;
+        int whole = 0;
+        String bound = null;
+        int fraction = 0;
+        int fractionCompare = 0;
+
+        // Elbonian state. The trie node is the value of the symbols read so far.
+        int node = 0;
+        int seen = 0;
+
+        // The index of the first character of each kind, or -1.
+        int point = -1;
+        int digit = -1;
+        int letter = -1;
+        int special = -1;
+        int letterRule = -1;
+        int unordered = -1;
+
+        for(int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if(c >= '0' && c <= '9') {
+                if(digit < 0) {
+                    digit = i;
+                }
+                if(point < 0) {
+                    whole = appendWhole(whole, c);
+                } else if(fractionCompare == 0) {
+                    fractionCompare = compareFraction(bound, fraction, c);
+                }
+                fraction++;
+            } else if((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                if(letter < 0) {
+                    letter = i;
+                }
+                decimal = false;
+                seen = see(seen, c);
+                if(letterRule < 0 && breaksLetterRule(seen)) {
+                    letterRule = i;
+                }
+                if(unordered < 0) {
+                    node = follow(node, c);
+                    if(node == 0) {
+                        unordered = i;
+                    }
+                }
+            } else if(c == ' ') {
+                return failure(SPACE, i);
+            } else {
+                if(special < 0) {
+                    special = i;
+                }
+                if(decimal && i == start && (c == '+' || c == '-')) {
+                    negative = c == '-';
+                } else if(decimal && c == '.' && point < 0) {
+                    point = i;
+                    fraction = 0;
+                    bound = bound(whole);
+                } else {
+                    decimal = false;
+                }
+            }
+        }
+
+        if(decimal && digit >= 0) {
+            return decimalResult(start, negative, whole, point, bound, fraction, fractionCompare);
+        }
+        return otherResult(special, digit, letter, letterRule, unordered, node);
+    }
+
+    // The steps below are shared with IncrementalParser, so both parsers apply the rules the same way.
+
+    // Adds a digit to the whole part of a decimal. The value stops just above MAX_VALUE so it cannot overflow.
+    static int appendWhole(int whole, char c) {
+        return Math.min(whole * 10 + (c - '0'), ElbonianTable.MAX_VALUE + 1);
+    }
+
+    // Returns the fraction a decimal with this whole part is compared with, or null if no fraction can move
+    // it onto or past a bound.
+    static String bound(int whole) {
+        if(whole == 0) {
+            return ROUNDS_TO_MIN;
+        }
+        return whole == ElbonianTable.MAX_VALUE ? ROUNDS_ABOVE_MAX : null;
+    }
+
+    // Compares digit number fraction of a fraction with the same digit of the bound, or returns 0 if there
+    // is no bound.
+    static int compareFraction(String bound, int fraction, char c) {
+        if(bound == null) {
+            return 0;
+        }
+        char b = fraction < bound.length() ? bound.charAt(fraction) : '0';
+        return c < b ? -1 : (c > b ? 1 : 0);
+    }
+
+    // Adds the bit of a letter to the symbols seen, if it is a symbol.
+    static int see(int seen, char c) {
+        int symbol = ElbonianTable.symbolIndex(c);
+        return symbol < 0 ? seen : seen | 1 << symbol;
+    }
+
+    // Follows a letter in the trie, returning 0 if it is not a symbol or cannot follow the symbols read.
+    static int follow(int node, char c) {
+        int symbol = ElbonianTable.symbolIndex(c);
+        return symbol < 0 ? 0 : ElbonianTable.next(node, symbol);
+    }
+
+    // Returns the result of a number that matches the decimal pattern and has a digit.
+    static int decimalResult(int start, boolean negative, int whole, int point, String bound, int fraction,
+                             int fractionCompare) {
+        if(bound != null && fractionCompare == 0 && fraction < bound.length()) {
+            fractionCompare = -1;
+        }
+        if(negative || whole > ElbonianTable.MAX_VALUE) {
+            return failure(OUT_OF_BOUNDS, start);
+        }
+        if(whole == 0 && (point < 0 || fractionCompare < 0)) {
+            return failure(OUT_OF_BOUNDS, start);
+        }
+        if(whole == ElbonianTable.MAX_VALUE && point >= 0 && fractionCompare > 0) {
+            return failure(OUT_OF_BOUNDS, start);
+        }
+        if(point >= 0) {
+            return failure(DECIMAL, point);
+        }
+        return whole;
+    }
+
+    // Returns the result of any other number from the first character of each kind, in order of priority.
+    static int otherResult(int special, int digit, int letter, int letterRule, int unordered, int node) {
+        if(special >= 0) {
+            return failure(SPECIAL_CHARACTER, special);
+        }
+        if(digit >= 0 && letter >= 0) {
+            return failure(ALPHANUMERIC, Math.max(digit, letter));
+        }
+        if(letterRule >= 0) {
+            return failure(LETTER_RULE, letterRule);
+        }
+        if(unordered >= 0) {
+            return failure(ORDERING, unordered);
+        }
+        return node;
+    }
+
+    /**
+     * Returns true if the result of a parse is a value rather than a failure.
+     *
+     * @param result The result of parse
+     * @return True if the parse succeeded
+     */
+    static boolean isValue(int result) {
+        return result > 0;
+    }
+
+    /**
+     * Returns the failure code of a parse.
+     *
+     * @param result The result of a failed parse
+     * @return The failure code, one of the constants above
+     */
+    static int code(int result) {
+        return ~result & ((1 << REASON_BITS) - 1);
+    }
+
+    /**
+     * Returns the reason a parse failed.
+     *
+     * @param result The result of a failed parse
+     * @return The reason for the failure
+     */
+    static FailureReason reason(int result) {
+        return REASONS[code(result)];
+    }
+
+    /**
+     * Returns the index of the character that caused a parse to fail.
+     *
+     * @param result The result of a failed parse
+     * @return The index of the character, at most MAX_OFFSET
+     */
+    static int offset(int result) {
+        return ~result >>> REASON_BITS;
+    }
+
+    // Encodes a failure code and the index of the character that caused it.
+    static int failure(int code, int offset) {
+        return ~(Math.min(offset, MAX_OFFSET) << REASON_BITS | code);
+    }
+
+    // Returns true if both symbols of any letter rule pair have been seen. Bit i of seen is symbol i.
+    static boolean breaksLetterRule(int seen) {
+        for(int mask : LETTER_RULE_MASKS) {
+            if((seen & mask) == mask) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Returns a bit mask with the bits of both symbols set.
+    private static int mask(char a, char b) {
+        return (1 << ElbonianTable.symbolIndex(a)) | (1 << ElbonianTable.symbolIndex(b));
+    }
+
+}
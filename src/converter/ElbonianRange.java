@@ -0,0 +1,341 @@
+package converter;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A range of consecutive Elbonian numerals. Iterating or streaming the range gives the shared table
+ * string for each value. The view methods instead give one reusable CharSequence that is edited in place
+ * as the range advances: each decimal place of an Elbonian numeral is written with its own symbols, so
+ * moving to the next value only rewrites the places that changed, usually just the last few symbols.
+ *
+ * Both kinds of spliterator split by value, so ranges can be consumed in parallel.
+ *
+ * @version 3/18/17
+ */
+public final class ElbonianRange implements Iterable<String> {
+
+    // The number of decimal places in the largest value.
+    private static final int PLACES = 4;
+
+    // PLACE_SYMBOLS[place][digit] is the numeral for the digit in the place, thousands first.
+    private static final char[][][] PLACE_SYMBOLS = new char[PLACES][10][];
+
+    static {
+        for(int place = 0, scale = 1000; place < PLACES; place++, scale /= 10) {
+            for(int digit = 0; digit < 10; digit++) {
+                PLACE_SYMBOLS[place][digit] = ElbonianTable.toElbonian(digit * scale).toCharArray();
+            }
+        }
+    }
+
+    // The first value and the value after the last one
+    private final int from;
+    private final int end;
+
+    private ElbonianRange(int from, int end) {
+        this.from = from;
+        this.end = end;
+    }
+
+    /**
+     * Returns the range of numerals from one value to another, including both.
+     *
+     * @param from The first value, at least 1
+     * @param to The last value, at most 9999. If it is from - 1 the range is empty
+     * @return The range
+     * @throws IllegalArgumentException Thrown if the range is not within 1 to 9999
+     */
+    public static ElbonianRange of(int from, int to) {
+        if(from < ElbonianTable.MIN_VALUE || to > ElbonianTable.MAX_VALUE || to < from - 1) {
+            throw new IllegalArgumentException("[" + from + ", " + to + "] is not an Elbonian range");
+        }
+        return new ElbonianRange(from, to + 1);
+    }
+
+    /**
+     * Returns the first value of the range.
+     *
+     * @return The first value
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the last value of the range.
+     *
+     * @return The last value, or getFrom() - 1 if the range is empty
+     */
+    public int getTo() {
+        return end - 1;
+    }
+
+    /**
+     * Returns the number of numerals in the range.
+     *
+     * @return The size of the range
+     */
+    public int size() {
+        return end - from;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return Spliterators.iterator(spliterator());
+    }
+
+    /**
+     * Returns a spliterator over the numerals of the range, in order of value.
+     *
+     * @return A sized, sorted spliterator that splits the range in half
+     */
+    @Override
+    public Spliterator<String> spliterator() {
+        return new Numerals(from, end);
+    }
+
+    /**
+     * Returns a stream of the numerals of the range.
+     *
+     * @param parallel True for a parallel stream
+     * @return The numerals, in order of value
+     */
+    public Stream<String> stream(boolean parallel) {
+        return StreamSupport.stream(spliterator(), parallel);
+    }
+
+    /**
+     * Passes every numeral of the range to an action as the same reusable view, which is edited in place
+     * between calls. The view is only valid during the call, so copy it (with toString) to keep it.
+     * Nothing is allocated for each numeral.
+     *
+     * @param action Receives the view once for each value, in order
+     */
+    public void forEachView(Consumer<? super CharSequence> action) {
+        viewSpliterator().forEachRemaining(action);
+    }
+
+    /**
+     * Returns a spliterator that passes each numeral of the range as a reusable view. Each spliterator,
+     * including each one returned by trySplit, has its own view, so splits can be traversed in parallel.
+     * See forEachView.
+     *
+     * @return A sized spliterator that splits the range in half
+     */
+    public Spliterator<CharSequence> viewSpliterator() {
+        return new Views(from, end);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + from + ", " + getTo() + "]";
+    }
+
+    /**
+     * A spliterator over a range of values that splits it in half.
+     */
+    private abstract static class RangeSpliterator<T> implements Spliterator<T> {
+
+        // The next value and the value after the last one
+        int next;
+        final int end;
+
+        RangeSpliterator(int next, int end) {
+            this.next = next;
+            this.end = end;
+        }
+
+        abstract RangeSpliterator<T> split(int from, int to);
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (next + end) >>> 1;
+            if(middle <= next) {
+                return null;
+            }
+            RangeSpliterator<T> prefix = split(next, middle);
+            next = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - next;
+        }
+
+    }
+
+    /**
+     * Passes the shared table string for each value.
+     */
+    private static final class Numerals extends RangeSpliterator<String> {
+
+        Numerals(int next, int end) {
+            super(next, end);
+        }
+
+        @Override
+        RangeSpliterator<String> split(int from, int to) {
+            return new Numerals(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            if(next >= end) {
+                return false;
+            }
+            action.accept(ElbonianTable.toElbonian(next++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super String> action) {
+            int value = next;
+            next = end;
+            for(; value < end; value++) {
+                action.accept(ElbonianTable.toElbonian(value));
+            }
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super String> getComparator() {
+            return ElbonianSort.COMPARATOR;
+        }
+
+    }
+
+    /**
+     * Passes a view that is advanced to each value in turn.
+     */
+    private static final class Views extends RangeSpliterator<CharSequence> {
+
+        // Created when the first value is passed, so a spliterator that is only split allocates nothing
+        private Cursor cursor;
+
+        Views(int next, int end) {
+            super(next, end);
+        }
+
+        @Override
+        RangeSpliterator<CharSequence> split(int from, int to) {
+            return new Views(from, to);
+        }
+
+        // Moves the cursor to the next value, or returns false at the end of the range.
+        private boolean advance() {
+            if(next >= end) {
+                return false;
+            }
+            if(cursor == null) {
+                cursor = new Cursor(next);
+            } else {
+                cursor.increment();
+            }
+            next++;
+            return true;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CharSequence> action) {
+            if(!advance()) {
+                return false;
+            }
+            action.accept(cursor);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super CharSequence> action) {
+            while(advance()) {
+                action.accept(cursor);
+            }
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+
+    }
+
+    /**
+     * The numeral for a value, kept as one digit and one run of symbols for each decimal place.
+     */
+    private static final class Cursor implements CharSequence {
+
+        private final char[] symbols = new char[ElbonianTable.MAX_LENGTH];
+        private int length;
+
+        // The digit in each place and the index of the first symbol of each place, thousands first
+        private final int[] digits = new int[PLACES];
+        private final int[] starts = new int[PLACES];
+
+        Cursor(int value) {
+            for(int place = PLACES - 1; place >= 0; place--) {
+                digits[place] = value % 10;
+                value /= 10;
+            }
+            for(int place = 0; place < PLACES; place++) {
+                write(place);
+            }
+        }
+
+        // Adds one, rewriting only the lowest place that does not carry and clearing the places below it.
+        void increment() {
+            int place = PLACES - 1;
+            while(digits[place] == 9) {
+                digits[place--] = 0;
+            }
+            digits[place]++;
+            length = starts[place];
+            write(place);
+            for(int lower = place + 1; lower < PLACES; lower++) {
+                starts[lower] = length;
+            }
+        }
+
+        // Writes the symbols of a place at the end of the numeral.
+        private void write(int place) {
+            char[] run = PLACE_SYMBOLS[place][digits[place]];
+            starts[place] = length;
+            System.arraycopy(run, 0, symbols, length, run.length);
+            length += run.length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if(index >= length) {
+                throw new IndexOutOfBoundsException(index + " is past the end of " + toString());
+            }
+            return symbols[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(symbols, 0, length);
+        }
+
+    }
+
+}
@@ -0,0 +1,356 @@
+package converter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class finds every valid Elbonian or Arabic numeral in a large text. A candidate is a maximal run of
+ * ASCII letters and digits, so "MMXX," and "(42)" yield numerals but "v2" does not, and each candidate is
+ * checked with the same rules as the ElbonianArabicConverter constructor without creating a converter or
+ * an exception. Note that ordinary words that are valid numerals, such as "I", are found too, and that
+ * punctuation always ends a candidate, so "3.5" yields 3 and 5, "-5" yields 5 and "1,000" yields 1.
+ *
+ * The tokens are produced lazily. Streams over a CharSequence or a file split at candidate boundaries, so
+ * they can be scanned in parallel with Stream.parallel().
+ *
+ * @version 3/18/17
+ */
+public final class ElbonianScanner {
+
+    // Ranges shorter than this are not split.
+    private static final int MIN_SPLIT = 1 << 16;
+
+    // The largest part of a file that is mapped at once.
+    private static final int WINDOW = 1 << 30;
+
+    // The size of the buffer a Reader is read into.
+    private static final int BUFFER = 8192;
+
+    private ElbonianScanner() {
+    }
+
+    /**
+     * Returns the numerals in a CharSequence. The sequence must not change while the stream is used.
+     *
+     * @param text The text to scan
+     * @return A stream of the numerals in order
+     */
+    public static Stream<NumeralToken> tokens(CharSequence text) {
+        return StreamSupport.stream(spliterator(text), false);
+    }
+
+    /**
+     * Returns a spliterator over the numerals in a CharSequence.
+     *
+     * @param text The text to scan
+     * @return A spliterator of the numerals in order
+     */
+    public static Spliterator<NumeralToken> spliterator(CharSequence text) {
+        return new TextSpliterator(text, 0, text.length(), 0);
+    }
+
+    /**
+     * Returns the numerals in the characters read from a Reader. The stream reads the Reader as it is
+     * consumed, does not close it, and throws UncheckedIOException if it cannot be read.
+     *
+     * @param reader The text to scan
+     * @return A stream of the numerals in order
+     */
+    public static Stream<NumeralToken> tokens(Reader reader) {
+        return StreamSupport.stream(new ReaderSpliterator(reader), false);
+    }
+
+    /**
+     * Returns the numerals in an ASCII file. The file is memory mapped, so it is not read into the heap, and
+     * offsets are byte offsets in the file. Any byte outside ASCII ends a candidate.
+     *
+     * @param file The file to scan
+     * @return A stream of the numerals in order
+     * @throws IOException Thrown if the file cannot be read
+     */
+    public static Stream<NumeralToken> tokens(Path file) throws IOException {
+        List<Spliterator<NumeralToken>> windows = new ArrayList<>();
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while(position < size) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(WINDOW, size - position));
+
+                // A window ends after the last byte that is not part of a candidate, so no candidate is cut.
+                int length = window.limit();
+                if(position + length < size) {
+                    while(length > 0 && isCandidate(window.get(length - 1) & 0xFF)) {
+                        length--;
+                    }
+                    if(length == 0) {
+                        throw new IOException("candidate at " + position + " is longer than " + WINDOW + " bytes");
+                    }
+                    window.limit(length);
+                }
+                AsciiSequence text = new AsciiSequence().wrap(window);
+                windows.add(new TextSpliterator(text, 0, length, position));
+                position += length;
+            }
+        }
+        return StreamSupport.stream(new ConcatSpliterator(windows, 0, windows.size()), false);
+    }
+
+    // Returns true if a character can be part of a candidate.
+    private static boolean isCandidate(int c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Scans a range of a CharSequence, splitting it in half at a character that is not part of a candidate.
+     */
+    private static final class TextSpliterator implements Spliterator<NumeralToken> {
+
+        private final CharSequence text;
+        private int index;
+        private final int end;
+
+        // The offset of the sequence in the text it came from, for a window of a file.
+        private final long base;
+
+        TextSpliterator(CharSequence text, int index, int end, long base) {
+            this.text = text;
+            this.index = index;
+            this.end = end;
+            this.base = base;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super NumeralToken> action) {
+            while(index < end) {
+                while(index < end && !isCandidate(text.charAt(index))) {
+                    index++;
+                }
+                int start = index;
+                while(index < end && isCandidate(text.charAt(index))) {
+                    index++;
+                }
+                if(start < index) {
+                    int result = ElbonianParser.parse(text, start, index);
+                    if(ElbonianParser.isValue(result)) {
+                        action.accept(new NumeralToken(base + start, base + index, result));
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<NumeralToken> trySplit() {
+            if(end - index < MIN_SPLIT) {
+                return null;
+            }
+            int middle = (index + end) >>> 1;
+            while(middle < end && isCandidate(text.charAt(middle))) {
+                middle++;
+            }
+            if(middle == end) {
+                return null;
+            }
+            Spliterator<NumeralToken> prefix = new TextSpliterator(text, index, middle, base);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+    }
+
+    /**
+     * Scans the characters of a Reader through a buffer that grows for candidates longer than it.
+     */
+    private static final class ReaderSpliterator extends Spliterators.AbstractSpliterator<NumeralToken> {
+
+        private final Reader reader;
+        private char[] buffer = new char[BUFFER];
+        private CharArray text = new CharArray(buffer);
+        private int index;
+        private int limit;
+        private boolean eof;
+
+        // The offset in the text of buffer[0]
+        private long base;
+
+        ReaderSpliterator(Reader reader) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL);
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super NumeralToken> action) {
+            while(true) {
+                while(index < limit && !isCandidate(buffer[index])) {
+                    index++;
+                }
+                if(index == limit && !fill(index)) {
+                    return false;
+                }
+                int start = index;
+                while(true) {
+                    while(index < limit && isCandidate(buffer[index])) {
+                        index++;
+                    }
+                    if(index < limit || eof) {
+                        break;
+                    }
+
+                    // The candidate may go on past the buffer, so it is kept while more is read.
+                    fill(start);
+                    start = 0;
+                }
+                if(start < index) {
+                    int result = ElbonianParser.parse(text, start, index);
+                    if(ElbonianParser.isValue(result)) {
+                        action.accept(new NumeralToken(base + start, base + index, result));
+                        return true;
+                    }
+                }
+                if(index == limit && eof) {
+                    return false;
+                }
+            }
+        }
+
+        // Drops the characters before keep and reads more after the rest, returning false at the end.
+        private boolean fill(int keep) {
+            int kept = limit - keep;
+            if(kept == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                text = new CharArray(buffer);
+            }
+            System.arraycopy(buffer, keep, buffer, 0, kept);
+            base += keep;
+            index -= keep;
+            limit = kept;
+            try {
+                int read = reader.read(buffer, limit, buffer.length - limit);
+                while(read == 0) {
+                    read = reader.read(buffer, limit, buffer.length - limit);
+                }
+                if(read < 0) {
+                    eof = true;
+                    return false;
+                }
+                limit += read;
+                return true;
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+    }
+
+    /**
+     * A CharSequence view of a char array, so the parser can read the Reader buffer without copying it.
+     */
+    private static final class CharArray implements CharSequence {
+
+        private final char[] chars;
+
+        CharArray(char[] chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        public int length() {
+            return chars.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[index];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(chars, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars);
+        }
+
+    }
+
+    /**
+     * Scans a list of spliterators one after another, splitting the list before splitting the spliterators.
+     */
+    private static final class ConcatSpliterator implements Spliterator<NumeralToken> {
+
+        private final List<Spliterator<NumeralToken>> parts;
+        private int first;
+        private final int last;
+
+        ConcatSpliterator(List<Spliterator<NumeralToken>> parts, int first, int last) {
+            this.parts = parts;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super NumeralToken> action) {
+            while(first < last) {
+                if(parts.get(first).tryAdvance(action)) {
+                    return true;
+                }
+                first++;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<NumeralToken> trySplit() {
+            if(last - first > 1) {
+                int middle = (first + last) >>> 1;
+                Spliterator<NumeralToken> prefix = new ConcatSpliterator(parts, first, middle);
+                first = middle;
+                return prefix;
+            }
+            return first < last ? parts.get(first).trySplit() : null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = 0;
+            for(int i = first; i < last; i++) {
+                size += parts.get(i).estimateSize();
+            }
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+    }
+
+}
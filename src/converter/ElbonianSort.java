@@ -0,0 +1,105 @@
+package converter;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Orders Elbonian numerals by value without converting them. A valid numeral writes its symbols in order
+ * of greatest magnitude, so two numerals that agree up to some symbol differ in value the same way as the
+ * first symbols where they differ: the one with the larger symbol, or the one that keeps going, is larger.
+ * Large arrays are sorted with a counting sort over the 9999 possible values instead.
+ *
+ * @version 3/18/17
+ */
+public final class ElbonianSort {
+
+    /**
+     * Compares Elbonian numerals by value, reading both only up to the first symbol where they differ.
+     * Numerals are compared as written, so they must not have leading or trailing spaces. Strings that are
+     * not valid numerals are still given a consistent order (by their symbols, with any other character
+     * before every symbol), but that order has nothing to do with their values.
+     */
+    public static final Comparator<CharSequence> COMPARATOR = ElbonianSort::compare;
+
+    private ElbonianSort() {
+    }
+
+    // Compares two numerals by the rank of their symbols, left to right.
+    private static int compare(CharSequence a, CharSequence b) {
+        int length = Math.min(a.length(), b.length());
+        for(int i = 0; i < length; i++) {
+            char x = a.charAt(i);
+            char y = b.charAt(i);
+            if(x != y) {
+                return Integer.compare(rank(x), rank(y));
+            }
+        }
+        return Integer.compare(a.length(), b.length());
+    }
+
+    // Symbols rank above every other character, larger symbols above smaller ones.
+    private static int rank(char c) {
+        int symbol = ElbonianTable.symbolIndex(c);
+        return symbol < 0 ? c : Character.MAX_VALUE + ElbonianTable.SYMBOLS.length - symbol;
+    }
+
+    /**
+     * Sorts an array of Elbonian numerals by value. Each element is replaced by the shared table string
+     * for its value, which is equal to it. Only a count for each value is kept, so sorting takes two passes
+     * over the array and no memory in proportion to its length.
+     *
+     * @param numerals The numerals to sort, with no leading or trailing spaces
+     * @throws IllegalArgumentException Thrown if an element is not a valid Elbonian numeral, in which case
+     * the array is not changed
+     */
+    public static void sort(String[] numerals) {
+        int[] counts = new int[ElbonianTable.MAX_VALUE + 1];
+        for(String numeral : numerals) {
+            counts[valueOf(numeral)]++;
+        }
+        int index = 0;
+        for(int value = ElbonianTable.MIN_VALUE; value <= ElbonianTable.MAX_VALUE; value++) {
+            String numeral = ElbonianTable.toElbonian(value);
+            for(int count = counts[value]; count > 0; count--) {
+                numerals[index++] = numeral;
+            }
+        }
+    }
+
+    /**
+     * Sorts rows by an Elbonian numeral key with a stable counting sort. The key of each row is read once.
+     *
+     * @param rows The rows to sort
+     * @param key Returns the numeral of a row, with no leading or trailing spaces
+     * @param <T> The type of the rows
+     * @throws IllegalArgumentException Thrown if a key is not a valid Elbonian numeral, in which case the
+     * array is not changed
+     */
+    public static <T> void sort(T[] rows, Function<? super T, ? extends CharSequence> key) {
+        short[] values = new short[rows.length];
+        int[] starts = new int[ElbonianTable.MAX_VALUE + 2];
+        for(int i = 0; i < rows.length; i++) {
+            int value = valueOf(key.apply(rows[i]));
+            values[i] = (short) value;
+            starts[value + 1]++;
+        }
+        for(int value = 1; value < starts.length; value++) {
+            starts[value] += starts[value - 1];
+        }
+        T[] sorted = rows.clone();
+        for(int i = 0; i < rows.length; i++) {
+            sorted[starts[values[i]]++] = rows[i];
+        }
+        System.arraycopy(sorted, 0, rows, 0, rows.length);
+    }
+
+    // Returns the value of a numeral, or throws if it is not valid.
+    private static int valueOf(CharSequence numeral) {
+        int value = ElbonianTable.toArabic(numeral, 0, numeral.length());
+        if(value < 0) {
+            throw new IllegalArgumentException("\"" + numeral + "\" is not an Elbonian numeral");
+        }
+        return value;
+    }
+
+}
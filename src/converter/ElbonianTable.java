@@ -0,0 +1,147 @@
+package converter;
+
+/**
+ * Lookup tables for every value in the Elbonian number system, built once when the class is loaded.
+ * The forward table maps an int to its canonical Elbonian string and the trie maps an Elbonian string
+ * back to its int value.
+ *
+ * Every prefix of a valid Elbonian numeral is itself a valid numeral (the symbols are written from the
+ * thousands group down to the ones group), so the nodes of the trie are simply the values 0 to 9999 and
+ * the node reached after reading a string is the value of that string.
+ *
+ * When the converter.table system property names a TableFile, the trie is read from the mapped file
+ * instead of being built, and each numeral is read from the file the first time it is needed.
+ *
+ * @version 3/18/17
+ */
+final class ElbonianTable {
+
+    // Smallest and largest values that can be written in the Elbonian number system.
+    static final int MIN_VALUE = 1;
+    static final int MAX_VALUE = 9999;
+
+    // The Elbonian symbols in order of greatest magnitude and the value of each one.
+    static final char[] SYMBOLS = {'N', 'n', 'M', 'D', 'd', 'C', 'L', 'l', 'X', 'V', 'v', 'I'};
+    static final int[] VALUES = {5000, 4000, 1000, 500, 400, 100, 50, 40, 10, 5, 4, 1};
+
+    // The letter rules, pairs of symbols that cannot appear in the same number ("if n exists, M cannot
+    // exist"). The parser, NumeralSystem.ELBONIAN and the symbol screens are all built from these.
+    static final String[] EXCLUSIVE = {"nM", "dC", "lX", "vI"};
+
+    // The longest Elbonian numeral (8888, "NMMMDCCCLXXXVIII").
+    static final int MAX_LENGTH = 16;
+
+    // Maps an ASCII character to its index in SYMBOLS, or -1 if it is not an Elbonian symbol.
+    private static final byte[] SYMBOL_INDEX = new byte[128];
+
+    // The mapped tables, or null if they are built on the heap.
+    private static final TableFile FILE = TableFile.openConfigured();
+
+    // The canonical Elbonian string for each value. Index 0 is the empty string. When the tables are
+    // mapped this is filled in as values are converted.
+    private static final String[] ELBONIAN = new String[MAX_VALUE + 1];
+
+    // trie[node * SYMBOLS.length + symbol] is the node reached by appending symbol, or 0 if there is none.
+    // Null when the tables are mapped.
+    private static final short[] TRIE = FILE == null ? new short[(MAX_VALUE + 1) * SYMBOLS.length] : null;
+
+    static {
+        java.util.Arrays.fill(SYMBOL_INDEX, (byte) -1);
+        for(int i = 0; i < SYMBOLS.length; i++) {
+            SYMBOL_INDEX[SYMBOLS[i]] = (byte) i;
+        }
+
+        ELBONIAN[0] = "";
+        if(FILE == null) {
+            build();
+        }
+    }
+
+    private ElbonianTable() {
+    }
+
+    // Fills in the forward table and the trie.
+    private static void build() {
+        StringBuilder builder = new StringBuilder(MAX_LENGTH);
+        for(int value = MIN_VALUE; value <= MAX_VALUE; value++) {
+            builder.setLength(0);
+            int temp = value;
+            int node = 0;
+            for(int i = 0; i < SYMBOLS.length; i++) {
+                while(temp >= VALUES[i]) {
+                    builder.append(SYMBOLS[i]);
+                    temp -= VALUES[i];
+                    int next = node + VALUES[i];
+                    TRIE[node * SYMBOLS.length + i] = (short) next;
+                    node = next;
+                }
+            }
+            ELBONIAN[value] = builder.toString();
+        }
+    }
+
+
+    /**
+     * Returns the index of the given character in SYMBOLS.
+     *
+     * @param c A character
+     * @return The symbol index, or -1 if the character is not an Elbonian symbol
+     */
+    static int symbolIndex(char c) {
+        return c < SYMBOL_INDEX.length ? SYMBOL_INDEX[c] : -1;
+    }
+
+    /**
+     * Returns the shared canonical Elbonian string for a value.
+     *
+     * @param value A value between MIN_VALUE and MAX_VALUE
+     * @return The Elbonian numeral for the value
+     */
+    static String toElbonian(int value) {
+        String numeral = ELBONIAN[value];
+        if(numeral == null) {
+            // Strings are immutable, so a race only means two threads read the same numeral.
+            numeral = FILE.numeral(value);
+            ELBONIAN[value] = numeral;
+        }
+        return numeral;
+    }
+
+    /**
+     * Follows one symbol in the trie.
+     *
+     * @param node The current node (the value of the symbols read so far)
+     * @param symbol An index into SYMBOLS
+     * @return The next node, or 0 if the symbol cannot follow the symbols read so far
+     */
+    static int next(int node, int symbol) {
+        if(TRIE == null) {
+            return FILE.next(node * SYMBOLS.length + symbol);
+        }
+        return TRIE[node * SYMBOLS.length + symbol];
+    }
+
+    /**
+     * Looks up the value of the Elbonian numeral in the given range of characters.
+     *
+     * @param s The characters to read
+     * @param from The index of the first character
+     * @param to The index after the last character
+     * @return The value of the numeral, or -1 if the range is not a valid Elbonian numeral
+     */
+    static int toArabic(CharSequence s, int from, int to) {
+        int node = 0;
+        for(int i = from; i < to; i++) {
+            int symbol = symbolIndex(s.charAt(i));
+            if(symbol < 0) {
+                return -1;
+            }
+            node = next(node, symbol);
+            if(node == 0) {
+                return -1;
+            }
+        }
+        return node == 0 ? -1 : node;
+    }
+
+}
@@ -0,0 +1,225 @@
+package converter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class converts files with one Arabic or Elbonian number per line. The input file is memory mapped
+ * a window at a time and each line is parsed straight out of the mapped bytes, and the output is written
+ * through large direct buffers, so memory use does not grow with the size of the file. Lines that are not
+ * valid numbers are written to a separate reject file with their line number and FailureReason.
+ *
+ * @version 3/18/17
+ */
+public final class FileConverter {
+
+    // How much of the input file is mapped at a time.
+    private static final int WINDOW = 64 << 20;
+
+    // The size of each output buffer.
+    private static final int BUFFER = 1 << 20;
+
+    // The file valid lines are converted into
+    private final ChannelWriter output;
+
+    // The file invalid lines are copied into
+    private final ChannelWriter rejectOutput;
+
+    // True to convert to Elbonian numerals, false to convert to Arabic numbers
+    private final boolean toElbonian;
+
+    // The number of lines read and rejected so far
+    private long line;
+    private long rejected;
+
+    private FileConverter(ChannelWriter output, ChannelWriter rejectOutput, boolean toElbonian) {
+        this.output = output;
+        this.rejectOutput = rejectOutput;
+        this.toElbonian = toElbonian;
+    }
+
+    /**
+     * Converts every line of a file to an Elbonian numeral.
+     *
+     * @param in The file to read
+     * @param out The file to write the numerals to, one per valid line
+     * @param rejects The file to write invalid lines to, as "line number TAB reason TAB line"
+     * @return The number of invalid lines
+     * @throws IOException Thrown if a file cannot be read or written
+     */
+    public static long toElbonian(Path in, Path out, Path rejects) throws IOException {
+        return convert(in, out, rejects, true);
+    }
+
+    /**
+     * Converts every line of a file to an Arabic number.
+     *
+     * @param in The file to read
+     * @param out The file to write the numbers to, one per valid line
+     * @param rejects The file to write invalid lines to, as "line number TAB reason TAB line"
+     * @return The number of invalid lines
+     * @throws IOException Thrown if a file cannot be read or written
+     */
+    public static long toArabic(Path in, Path out, Path rejects) throws IOException {
+        return convert(in, out, rejects, false);
+    }
+
+    /**
+     * Converts a file from the command line.
+     *
+     * @param args "elbonian" or "arabic", then the input, output and reject files
+     * @throws IOException Thrown if a file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 4 || !(args[0].equals("elbonian") || args[0].equals("arabic"))) {
+            System.err.println("usage: FileConverter elbonian|arabic <input> <output> <rejects>");
+            System.exit(2);
+        }
+        long rejected = convert(Paths.get(args[1]), Paths.get(args[2]), Paths.get(args[3]), args[0].equals("elbonian"));
+        System.out.println(rejected + " lines rejected");
+    }
+
+    // Converts each line of in and writes it to out, or to rejects if it is not a valid number.
+    private static long convert(Path in, Path out, Path rejects, boolean toElbonian) throws IOException {
+        try(FileChannel input = FileChannel.open(in, StandardOpenOption.READ);
+            ChannelWriter output = new ChannelWriter(out);
+            ChannelWriter rejectOutput = new ChannelWriter(rejects)) {
+            FileConverter converter = new FileConverter(output, rejectOutput, toElbonian);
+            converter.convert(input);
+            return converter.rejected;
+        }
+    }
+
+    // Maps the input a window at a time and converts every line in it.
+    private void convert(FileChannel input) throws IOException {
+        AsciiSequence text = new AsciiSequence();
+        long size = input.size();
+        long position = 0;
+        int window = WINDOW;
+        while(position < size) {
+            int length = (int) Math.min(window, size - position);
+            boolean last = position + length == size;
+            MappedByteBuffer buffer = input.map(FileChannel.MapMode.READ_ONLY, position, length);
+            text.wrap(buffer);
+
+            int start = 0;
+            for(int i = 0; i < length; i++) {
+                if(buffer.get(i) == '\n') {
+                    convertLine(text, buffer, start, i);
+                    start = i + 1;
+                }
+            }
+            if(last && start < length) {
+                convertLine(text, buffer, start, length);
+                start = length;
+            }
+
+            // A line that does not fit in the window is read again with a larger window.
+            if(start == 0 && !last) {
+                if(window == Integer.MAX_VALUE) {
+                    throw new IOException("line " + (line + 1) + " is longer than " + window + " bytes");
+                }
+                window = (int) Math.min(2L * window, Integer.MAX_VALUE);
+            } else {
+                window = WINDOW;
+            }
+            position += start;
+        }
+    }
+
+    // Converts the line between start and end, not including the newline.
+    private void convertLine(AsciiSequence text, ByteBuffer buffer, int start, int end) throws IOException {
+        line++;
+        int result = ElbonianParser.parse(text, start, end);
+        if(ElbonianParser.isValue(result)) {
+            if(toElbonian) {
+                output.putAscii(ElbonianTable.toElbonian(result));
+            } else {
+                output.putNumber(result);
+            }
+            output.put('\n');
+        } else {
+            rejected++;
+            rejectOutput.putNumber(line);
+            rejectOutput.put('\t');
+            rejectOutput.putAscii(ElbonianParser.reason(result).name());
+            rejectOutput.put('\t');
+            buffer.limit(end).position(start);
+            rejectOutput.put(buffer);
+            buffer.clear();
+            rejectOutput.put('\n');
+        }
+    }
+
+    /**
+     * Writes bytes to a file through a direct buffer.
+     */
+    private static final class ChannelWriter implements AutoCloseable {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER);
+
+        ChannelWriter(Path path) throws IOException {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+        }
+
+        void put(char c) throws IOException {
+            if(!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.put((byte) c);
+        }
+
+        void putAscii(String s) throws IOException {
+            for(int i = 0; i < s.length(); i++) {
+                put(s.charAt(i));
+            }
+        }
+
+        void putNumber(long n) throws IOException {
+            long divisor = 1;
+            while(divisor <= n / 10) {
+                divisor *= 10;
+            }
+            for(; divisor > 0; divisor /= 10) {
+                put((char) ('0' + n / divisor % 10));
+            }
+        }
+
+        void put(ByteBuffer bytes) throws IOException {
+            while(bytes.remaining() > buffer.remaining()) {
+                int limit = bytes.limit();
+                bytes.limit(bytes.position() + buffer.remaining());
+                buffer.put(bytes);
+                bytes.limit(limit);
+                flush();
+            }
+            buffer.put(bytes);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while(buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,199 @@
+package converter;
+
+/**
+ * A version of ElbonianParser that is given one character at a time, so a number can be parsed as it
+ * arrives without being collected into a String first. Each character and the final result go through the
+ * same steps as in ElbonianParser, so it gives the same result, with offsets counted from the first
+ * character given after reset. Only the trimming is its own.
+ *
+ * Trailing spaces are only known to be trailing when the number ends, so a run of characters up to and
+ * including the space character is remembered by the position of its first space and its first other
+ * control character, and is only applied when another character follows it.
+ *
+ * @version 3/18/17
+ */
+final class IncrementalParser {
+
+    // The number of characters given since reset
+    private int length;
+
+    // The index of the first and last characters that are not trimmed, or -1
+    private int start;
+    private int last;
+    private char first;
+
+    // The run of characters up to ' ' that may turn out to be trailing: its first space and its first other
+    // control character before that space, or -1.
+    private int runSpace;
+    private int runControl;
+
+    // The index of the space inside the number, or -1. Nothing after it changes the result.
+    private int space;
+
+    // Arabic state, as in ElbonianParser.
+    private boolean decimal;
+    private boolean negative;
+    private int whole;
+    private String bound;
+    private int fraction;
+    private int fractionCompare;
+
+    // Elbonian state, as in ElbonianParser.
+    private int node;
+    private int seen;
+
+    // The index of the first character of each kind, or -1.
+    private int point;
+    private int digit;
+    private int letter;
+    private int special;
+    private int letterRule;
+    private int unordered;
+
+    IncrementalParser() {
+        reset();
+    }
+
+    /**
+     * Starts a new number.
+     */
+    void reset() {
+        length = 0;
+        start = -1;
+        last = -1;
+        first = 0;
+        runSpace = -1;
+        runControl = -1;
+        space = -1;
+        decimal = true;
+        negative = false;
+        whole = 0;
+        bound = null;
+        fraction = 0;
+        fractionCompare = 0;
+        node = 0;
+        seen = 0;
+        point = -1;
+        digit = -1;
+        letter = -1;
+        special = -1;
+        letterRule = -1;
+        unordered = -1;
+    }
+
+    /**
+     * Returns true if any character has been given since reset.
+     *
+     * @return True if the number is not empty
+     */
+    boolean isStarted() {
+        return length > 0;
+    }
+
+    /**
+     * Reads the next character of the number.
+     *
+     * @param c The character
+     */
+    void accept(char c) {
+        int i = length;
+        if(length < Integer.MAX_VALUE) {
+            length++;
+        }
+        if(space >= 0) {
+            return;
+        }
+        if(c <= ' ') {
+            if(start >= 0) {
+                if(c == ' ' && runSpace < 0) {
+                    runSpace = i;
+                } else if(c != ' ' && runSpace < 0 && runControl < 0) {
+                    runControl = i;
+                }
+            }
+            return;
+        }
+
+        if(start < 0) {
+            start = i;
+            first = c;
+        }
+        last = i;
+
+        // The run was inside the number after all. Its control characters come first, then its space.
+        if(runControl >= 0) {
+            if(special < 0) {
+                special = runControl;
+            }
+            decimal = false;
+            runControl = -1;
+        }
+        if(runSpace >= 0) {
+            space = runSpace;
+            return;
+        }
+
+        if(c >= '0' && c <= '9') {
+            if(digit < 0) {
+                digit = i;
+            }
+            if(point < 0) {
+                whole = ElbonianParser.appendWhole(whole, c);
+            } else if(fractionCompare == 0) {
+                fractionCompare = ElbonianParser.compareFraction(bound, fraction, c);
+            }
+            fraction++;
+        } else if((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+            if(letter < 0) {
+                letter = i;
+            }
+            decimal = false;
+            seen = ElbonianParser.see(seen, c);
+            if(letterRule < 0 && ElbonianParser.breaksLetterRule(seen)) {
+                letterRule = i;
+            }
+            if(unordered < 0) {
+                node = ElbonianParser.follow(node, c);
+                if(node == 0) {
+                    unordered = i;
+                }
+            }
+        } else {
+            if(special < 0) {
+                special = i;
+            }
+            if(decimal && i == start && (c == '+' || c == '-')) {
+                negative = c == '-';
+            } else if(decimal && c == '.' && point < 0) {
+                point = i;
+                fraction = 0;
+                bound = ElbonianParser.bound(whole);
+            } else {
+                decimal = false;
+            }
+        }
+    }
+
+    /**
+     * Ends the number and returns the result ElbonianParser.parse would give for the same characters.
+     *
+     * @return The value of the number, or a negative failure
+     */
+    int finish() {
+        if(start < 0) {
+            return ElbonianParser.failure(ElbonianParser.EMPTY, length);
+        }
+        if(space >= 0) {
+            return ElbonianParser.failure(ElbonianParser.SPACE, space);
+        }
+        if(last == start && first == '0') {
+            return ElbonianParser.failure(ElbonianParser.ZERO, start);
+        }
+
+        if(decimal && digit >= 0) {
+            return ElbonianParser.decimalResult(start, negative, whole, point, bound, fraction, fractionCompare);
+        }
+        return ElbonianParser.otherResult(special, digit, letter, letterRule, unordered, node);
+    }
+
+}
@@ -0,0 +1,54 @@
+package converter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent histogram of latencies in nanoseconds with one bucket per power of two. Bucket 0 counts
+ * latencies of 0 and bucket b counts latencies from 2^(b-1) up to 2^b.
+ *
+ * @version 3/18/17
+ */
+final class LatencyHistogram {
+
+    static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    LatencyHistogram() {
+        for(int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Counts one latency.
+     *
+     * @param nanos The latency in nanoseconds
+     */
+    void record(long nanos) {
+        buckets[BUCKETS - Long.numberOfLeadingZeros(Math.max(nanos, 0))].increment();
+    }
+
+    /**
+     * Returns the current count of each bucket.
+     *
+     * @return A copy of the counts
+     */
+    long[] counts() {
+        long[] counts = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Sets every bucket back to 0.
+     */
+    void reset() {
+        for(LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package converter;
+
+/**
+ * The latencies of one operation at the time ConverterMetrics.snapshot() was called, counted in power of
+ * two buckets of nanoseconds.
+ *
+ * @version 3/18/17
+ */
+public final class LatencySnapshot {
+
+    // counts[0] counts latencies of 0 and counts[b] counts latencies from 2^(b-1) up to 2^b nanoseconds
+    private final long[] counts;
+    private final long count;
+
+    LatencySnapshot(long[] counts) {
+        this.counts = counts;
+        long count = 0;
+        for(long c : counts) {
+            count += c;
+        }
+        this.count = count;
+    }
+
+    /**
+     * Returns the number of latencies counted.
+     *
+     * @return The number of operations timed
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the count of each bucket. Bucket 0 counts latencies of 0 and bucket b counts latencies from
+     * 2^(b-1) up to 2^b nanoseconds.
+     *
+     * @return A copy of the counts
+     */
+    public long[] getCounts() {
+        return counts.clone();
+    }
+
+    /**
+     * Returns an upper bound for a percentile of the latencies.
+     *
+     * @param percentile A percentile between 0 and 100
+     * @return The upper bound, in nanoseconds, of the bucket that holds the percentile, or 0 if nothing
+     * was counted
+     */
+    public long getPercentile(double percentile) {
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+        for(int b = 0; b < counts.length; b++) {
+            seen += counts[b];
+            if(seen >= rank && seen > 0) {
+                return b == 0 ? 0 : (b == counts.length - 1 ? Long.MAX_VALUE : 1L << b);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + " p50<=" + getPercentile(50) + "ns p99<=" + getPercentile(99)
+                + "ns p99.9<=" + getPercentile(99.9) + "ns";
+    }
+
+}
@@ -0,0 +1,76 @@
+package converter;
+
+import converter.exceptions.FailureReason;
+
+/**
+ * The converter metrics at the time ConverterMetrics.snapshot() was called.
+ *
+ * @version 3/18/17
+ */
+public final class MetricsSnapshot {
+
+    private final long constructions;
+    private final long[] rejections;
+    private final LatencySnapshot constructionLatency;
+
+    MetricsSnapshot(long constructions, long[] rejections, LatencySnapshot constructionLatency) {
+        this.constructions = constructions;
+        this.rejections = rejections;
+        this.constructionLatency = constructionLatency;
+    }
+
+    /**
+     * Returns the number of times the constructor was called, including calls that threw an exception.
+     *
+     * @return The number of constructions
+     */
+    public long getConstructions() {
+        return constructions;
+    }
+
+    /**
+     * Returns the number of numbers the constructor rejected.
+     *
+     * @return The number of rejections for every reason
+     */
+    public long getRejections() {
+        long total = 0;
+        for(long r : rejections) {
+            total += r;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of numbers the constructor rejected for one reason.
+     *
+     * @param reason The reason
+     * @return The number of rejections for the reason
+     */
+    public long getRejections(FailureReason reason) {
+        return rejections[reason.ordinal()];
+    }
+
+    /**
+     * Returns the latencies of the constructor, including calls that threw an exception.
+     *
+     * @return The constructor latencies
+     */
+    public LatencySnapshot getConstructionLatency() {
+        return constructionLatency;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("constructions=").append(constructions)
+                .append(" rejections=").append(getRejections());
+        for(FailureReason reason : FailureReason.values()) {
+            if(rejections[reason.ordinal()] > 0) {
+                builder.append(' ').append(reason.name()).append('=').append(rejections[reason.ordinal()]);
+            }
+        }
+        return builder.toString();
+    }
+
+}
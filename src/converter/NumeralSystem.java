@@ -0,0 +1,456 @@
+package converter;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A numeral system compiled from a description of its symbols, its range and the symbols that cannot be
+ * used together. A numeral is valid if it is the greedy encoding of a value in the range: the tokens are
+ * written from the largest value down, each as many times as it fits. Numerals are parsed by a minimized
+ * DFA whose transitions carry the value they add, so a numeral is validated and its value computed in one
+ * pass with no backtracking, regular expressions or exceptions.
+ *
+ * Elbonian and classic Roman numerals are built in, and other variants are described the same way:
+ * <pre>
+ * NumeralSystem roman = NumeralSystem.compile("Roman",
+ *         new String[] {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"},
+ *         new int[] {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1}, 1, 3999);
+ * </pre>
+ *
+ * @version 3/18/17
+ */
+public final class NumeralSystem {
+
+    // The Elbonian number system, the same rules as ElbonianArabicConverter.
+    public static final NumeralSystem ELBONIAN = compile("Elbonian", tokens(ElbonianTable.SYMBOLS),
+            ElbonianTable.VALUES, ElbonianTable.MIN_VALUE, ElbonianTable.MAX_VALUE, ElbonianTable.EXCLUSIVE);
+
+    // Classic Roman numerals with subtractive pairs, from I to MMMCMXCIX.
+    public static final NumeralSystem ROMAN = compile("Roman",
+            new String[] {"M", "CM", "D", "CD", "C", "XC", "L", "XL", "X", "IX", "V", "IV", "I"},
+            new int[] {1000, 900, 500, 400, 100, 90, 50, 40, 10, 9, 5, 4, 1}, 1, 3999);
+
+    // Marks a missing transition or a state that does not end a numeral.
+    private static final int NONE = -1;
+
+    private final String name;
+    private final int minValue;
+    private final int maxValue;
+
+    // The encoder, the tokens in order of greatest value.
+    private final String[] tokens;
+    private final int[] values;
+
+    // Maps an ASCII character to its symbol index, or NONE.
+    private final byte[] symbolIndex;
+
+    // The bit of each symbol that is in an exclusive pair, and the pairs as masks of two bits.
+    private final long[] exclusive;
+
+    // next[state * symbols + symbol] is the next state, or NONE. The transition adds weight[...] to the
+    // value. State 0 is the start state and its weight is startWeight. finalWeight[state] is added when a
+    // numeral ends in the state, or is NONE if it cannot end there.
+    private final int symbols;
+    private final int[] next;
+    private final int[] weight;
+    private final int[] finalWeight;
+    private final int startWeight;
+
+    private NumeralSystem(String name, int minValue, int maxValue, String[] tokens, int[] values,
+                          byte[] symbolIndex, long[] exclusive, int symbols, int[] next, int[] weight,
+                          int[] finalWeight, int startWeight) {
+        this.name = name;
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.tokens = tokens;
+        this.values = values;
+        this.symbolIndex = symbolIndex;
+        this.exclusive = exclusive;
+        this.symbols = symbols;
+        this.next = next;
+        this.weight = weight;
+        this.finalWeight = finalWeight;
+        this.startWeight = startWeight;
+    }
+
+    /**
+     * Compiles a numeral system. Every value in the range must have a greedy encoding, no two values may have
+     * the same encoding, and no encoding may use both symbols of an exclusive pair, so the encoder only ever
+     * writes numerals the parser accepts.
+     *
+     * @param name The name of the system
+     * @param tokens The tokens in order of greatest value. Each is one or more printable ASCII characters
+     * other than the space
+     * @param values The value of each token, positive and strictly decreasing
+     * @param minValue The smallest value that can be written, at least 1
+     * @param maxValue The largest value that can be written
+     * @param exclusive Pairs of symbols that cannot appear in the same numeral, each a string of two symbols
+     * @return The compiled system
+     * @throws IllegalArgumentException Thrown if the description is not valid
+     */
+    public static NumeralSystem compile(String name, String[] tokens, int[] values, int minValue, int maxValue,
+                                        String... exclusive) {
+        if(tokens.length == 0 || tokens.length != values.length) {
+            throw new IllegalArgumentException(name + ": there must be one value for each token");
+        }
+        if(minValue < 1 || maxValue < minValue) {
+            throw new IllegalArgumentException(name + ": the range must be within 1 to " + Integer.MAX_VALUE);
+        }
+
+        // Number the symbols in the order they first appear.
+        byte[] symbolIndex = new byte[128];
+        Arrays.fill(symbolIndex, (byte) NONE);
+        int symbols = 0;
+        for(int i = 0; i < tokens.length; i++) {
+            if(tokens[i].isEmpty() || values[i] <= 0 || (i > 0 && values[i] >= values[i - 1])) {
+                throw new IllegalArgumentException(name + ": tokens must be non-empty with decreasing positive values");
+            }
+            for(int j = 0; j < tokens[i].length(); j++) {
+                char c = tokens[i].charAt(j);
+                if(c <= ' ' || c >= 127) {
+                    throw new IllegalArgumentException(name + ": symbol '" + c + "' is not printable ASCII");
+                }
+                if(symbolIndex[c] == NONE) {
+                    if(symbols == Long.SIZE) {
+                        throw new IllegalArgumentException(name + ": more than " + Long.SIZE + " symbols");
+                    }
+                    symbolIndex[c] = (byte) symbols++;
+                }
+            }
+        }
+
+        long[] pairs = new long[exclusive.length + 1];
+        for(int i = 0; i < exclusive.length; i++) {
+            String pair = exclusive[i];
+            if(pair.length() != 2 || pair.charAt(0) >= 128 || pair.charAt(1) >= 128
+                    || symbolIndex[pair.charAt(0)] == NONE || symbolIndex[pair.charAt(1)] == NONE) {
+                throw new IllegalArgumentException(name + ": \"" + pair + "\" is not a pair of symbols");
+            }
+            pairs[i + 1] = 1L << symbolIndex[pair.charAt(0)] | 1L << symbolIndex[pair.charAt(1)];
+            pairs[0] |= pairs[i + 1];
+        }
+
+        Compiler compiler = new Compiler(symbols);
+        StringBuilder builder = new StringBuilder();
+        for(int value = minValue; value <= maxValue; value++) {
+            builder.setLength(0);
+            if(encode(tokens, values, value, builder) != 0) {
+                throw new IllegalArgumentException(name + ": " + value + " has no greedy encoding");
+            }
+            long seen = 0;
+            for(int i = 0; i < builder.length(); i++) {
+                seen |= 1L << symbolIndex[builder.charAt(i)];
+            }
+            if(breaksExclusion(pairs, seen)) {
+                throw new IllegalArgumentException(name + ": " + builder + " uses an exclusive pair");
+            }
+            int previous = compiler.add(builder, symbolIndex, value);
+            if(previous != NONE) {
+                throw new IllegalArgumentException(name + ": " + previous + " and " + value + " are both written "
+                        + builder);
+            }
+        }
+        return compiler.minimize(name, minValue, maxValue, tokens.clone(), values.clone(), symbolIndex, pairs);
+    }
+
+    /**
+     * Returns the name of the system.
+     *
+     * @return The name given when the system was compiled
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the smallest value that can be written.
+     *
+     * @return The smallest value
+     */
+    public int getMinValue() {
+        return minValue;
+    }
+
+    /**
+     * Returns the largest value that can be written.
+     *
+     * @return The largest value
+     */
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the number of states in the minimized DFA.
+     *
+     * @return The number of states
+     */
+    public int getStateCount() {
+        return finalWeight.length;
+    }
+
+    /**
+     * Writes a value as a numeral of this system.
+     *
+     * @param value A value between getMinValue and getMaxValue
+     * @return The numeral for the value
+     * @throws IllegalArgumentException Thrown if the value is out of range
+     */
+    public String toNumeral(int value) {
+        if(value < minValue || value > maxValue) {
+            throw new IllegalArgumentException(value + " is out of the " + name + " range");
+        }
+        StringBuilder builder = new StringBuilder();
+        encode(tokens, values, value, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Parses a numeral of this system. Leading and trailing characters up to and including the space
+     * character are ignored, the same as ElbonianArabicConverter.tryParse. The numeral is rejected at the
+     * first character where it stops being valid: a space (SPACE), a character that is not a symbol
+     * (SPECIAL_CHARACTER), the second symbol of an exclusive pair (LETTER_RULE), or a symbol that cannot
+     * follow the ones before it (ORDERING). A numeral that ends too early is rejected at its end with
+     * ORDERING. The failure can be read with ElbonianArabicConverter.failureReason and failureOffset.
+     *
+     * @param s The characters to read
+     * @param from The index of the first character
+     * @param to The index after the last character
+     * @return The value of the numeral, or a negative failure
+     */
+    public int parse(CharSequence s, int from, int to) {
+        int start = from;
+        int end = to;
+        while(start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while(end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if(start == end) {
+            return ElbonianParser.failure(ElbonianParser.EMPTY, start);
+        }
+
+        int state = 0;
+        int value = startWeight;
+        long seen = 0;
+        for(int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if(c == ' ') {
+                return ElbonianParser.failure(ElbonianParser.SPACE, i);
+            }
+            int symbol = c < symbolIndex.length ? symbolIndex[c] : NONE;
+            if(symbol == NONE) {
+                return ElbonianParser.failure(ElbonianParser.SPECIAL_CHARACTER, i);
+            }
+            long bit = 1L << symbol;
+            if((exclusive[0] & bit) != 0 && (seen & bit) == 0) {
+                seen |= bit;
+                if(breaksExclusion(exclusive, seen)) {
+                    return ElbonianParser.failure(ElbonianParser.LETTER_RULE, i);
+                }
+            }
+            int index = state * symbols + symbol;
+            state = next[index];
+            if(state == NONE) {
+                return ElbonianParser.failure(ElbonianParser.ORDERING, i);
+            }
+            value += weight[index];
+        }
+        if(finalWeight[state] == NONE) {
+            return ElbonianParser.failure(ElbonianParser.ORDERING, end);
+        }
+        return value + finalWeight[state];
+    }
+
+    /**
+     * Parses a numeral of this system. See parse(CharSequence, int, int).
+     *
+     * @param s The characters to read
+     * @return The value of the numeral, or a negative failure
+     */
+    public int parse(CharSequence s) {
+        return parse(s, 0, s.length());
+    }
+
+    @Override
+    public String toString() {
+        return name + " [" + minValue + ", " + maxValue + "], " + getStateCount() + " states";
+    }
+
+    // Appends the greedy encoding of a value and returns the part of the value that could not be written.
+    private static int encode(String[] tokens, int[] values, int value, StringBuilder builder) {
+        int rest = value;
+        for(int i = 0; i < tokens.length && rest > 0; i++) {
+            for(int count = rest / values[i]; count > 0; count--) {
+                builder.append(tokens[i]);
+            }
+            rest %= values[i];
+        }
+        return rest;
+    }
+
+    // Returns true if both symbols of any exclusive pair have been seen. pairs[0] is the union of the pairs.
+    private static boolean breaksExclusion(long[] pairs, long seen) {
+        for(int i = 1; i < pairs.length; i++) {
+            if((seen & pairs[i]) == pairs[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Makes a one character token for each symbol.
+    private static String[] tokens(char[] symbols) {
+        String[] tokens = new String[symbols.length];
+        for(int i = 0; i < symbols.length; i++) {
+            tokens[i] = String.valueOf(symbols[i]);
+        }
+        return tokens;
+    }
+
+    /**
+     * Builds a trie of every numeral and minimizes it into a DFA with a weight on each transition.
+     *
+     * The weight of a node is the smallest value of any numeral below it, and a transition adds the
+     * difference between the weights of its ends. Two nodes accept the same numerals with the same values
+     * relative to their weight exactly when their transitions and final weights match, so the trie is
+     * acyclic and can be minimized bottom up by merging nodes with equal signatures.
+     */
+    private static final class Compiler {
+
+        private final int symbols;
+
+        // The trie. Children are always created after their parents.
+        private int[] children;
+        private int[] values;
+        private int nodes = 1;
+
+        Compiler(int symbols) {
+            this.symbols = symbols;
+            this.children = new int[64 * symbols];
+            this.values = new int[64];
+            Arrays.fill(children, NONE);
+            Arrays.fill(values, NONE);
+        }
+
+        // Adds a numeral and its value to the trie, returning the value the numeral already had or NONE.
+        int add(CharSequence numeral, byte[] symbolIndex, int value) {
+            int node = 0;
+            for(int i = 0; i < numeral.length(); i++) {
+                int index = node * symbols + symbolIndex[numeral.charAt(i)];
+                if(children[index] == NONE) {
+                    if(nodes == values.length) {
+                        children = Arrays.copyOf(children, children.length * 2);
+                        values = Arrays.copyOf(values, values.length * 2);
+                        Arrays.fill(children, nodes * symbols, children.length, NONE);
+                        Arrays.fill(values, nodes, values.length, NONE);
+                    }
+                    children[index] = nodes++;
+                }
+                node = children[index];
+            }
+            int previous = values[node];
+            if(previous == NONE) {
+                values[node] = value;
+            }
+            return previous;
+        }
+
+        NumeralSystem minimize(String name, int minValue, int maxValue, String[] tokens, int[] tokenValues,
+                               byte[] symbolIndex, long[] exclusive) {
+            // The weight of each node, children first.
+            int[] weights = new int[nodes];
+            for(int node = nodes - 1; node >= 0; node--) {
+                int min = values[node] == NONE ? Integer.MAX_VALUE : values[node];
+                for(int symbol = 0; symbol < symbols; symbol++) {
+                    int child = children[node * symbols + symbol];
+                    if(child != NONE) {
+                        min = Math.min(min, weights[child]);
+                    }
+                }
+                weights[node] = min;
+            }
+
+            // Merge nodes with equal signatures, children first.
+            int[] classes = new int[nodes];
+            Map<Signature, Integer> signatures = new HashMap<>();
+            for(int node = nodes - 1; node >= 0; node--) {
+                int[] signature = new int[1 + 2 * symbols];
+                signature[0] = values[node] == NONE ? NONE : values[node] - weights[node];
+                for(int symbol = 0; symbol < symbols; symbol++) {
+                    int child = children[node * symbols + symbol];
+                    signature[1 + 2 * symbol] = child == NONE ? NONE : classes[child];
+                    signature[2 + 2 * symbol] = child == NONE ? 0 : weights[child] - weights[node];
+                }
+                Integer existing = signatures.putIfAbsent(new Signature(signature), signatures.size());
+                classes[node] = existing != null ? existing : signatures.size() - 1;
+            }
+
+            // Number the states breadth first from the root, so the start state is 0.
+            int[] state = new int[signatures.size()];
+            Arrays.fill(state, NONE);
+            int[] representative = new int[signatures.size()];
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            state[classes[0]] = 0;
+            representative[0] = 0;
+            queue.add(0);
+            int states = 1;
+            while(!queue.isEmpty()) {
+                int node = queue.poll();
+                for(int symbol = 0; symbol < symbols; symbol++) {
+                    int child = children[node * symbols + symbol];
+                    if(child != NONE && state[classes[child]] == NONE) {
+                        state[classes[child]] = states;
+                        representative[states++] = child;
+                        queue.add(child);
+                    }
+                }
+            }
+
+            int[] next = new int[states * symbols];
+            int[] weight = new int[states * symbols];
+            int[] finalWeight = new int[states];
+            for(int s = 0; s < states; s++) {
+                int node = representative[s];
+                finalWeight[s] = values[node] == NONE ? NONE : values[node] - weights[node];
+                for(int symbol = 0; symbol < symbols; symbol++) {
+                    int child = children[node * symbols + symbol];
+                    next[s * symbols + symbol] = child == NONE ? NONE : state[classes[child]];
+                    weight[s * symbols + symbol] = child == NONE ? 0 : weights[child] - weights[node];
+                }
+            }
+            return new NumeralSystem(name, minValue, maxValue, tokens, tokenValues, symbolIndex, exclusive,
+                    symbols, next, weight, finalWeight, weights[0]);
+        }
+
+    }
+
+    /**
+     * The final weight and transitions of a trie node, compared by value.
+     */
+    private static final class Signature {
+
+        private final int[] fields;
+        private final int hash;
+
+        Signature(int[] fields) {
+            this.fields = fields;
+            this.hash = Arrays.hashCode(fields);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Signature && Arrays.equals(fields, ((Signature) o).fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package converter;
+
+/**
+ * A valid Elbonian or Arabic numeral found by ElbonianScanner, with its position in the text it was found
+ * in.
+ *
+ * @version 3/18/17
+ */
+public final class NumeralToken {
+
+    // The index of the first character of the numeral
+    private final long start;
+
+    // The index after the last character of the numeral
+    private final long end;
+
+    // The value of the numeral, between 1 and 9999
+    private final int value;
+
+    NumeralToken(long start, long end, int value) {
+        this.start = start;
+        this.end = end;
+        this.value = value;
+    }
+
+    /**
+     * Returns the index of the first character of the numeral.
+     *
+     * @return The start offset
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the index after the last character of the numeral.
+     *
+     * @return The end offset
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the value of the numeral.
+     *
+     * @return An arabic value
+     */
+    public int getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the Elbonian numeral for the value, whichever form the numeral was written in.
+     *
+     * @return An Elbonian value
+     */
+    public String toElbonian() {
+        return ElbonianTable.toElbonian(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if(!(other instanceof NumeralToken)) {
+            return false;
+        }
+        NumeralToken token = (NumeralToken) other;
+        return token.start == start && token.end == end && token.value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(start) * 31 + value;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + "): " + value;
+    }
+
+}
@@ -0,0 +1,269 @@
+package converter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * The layout of the packed binary format written by PackedWriter and read by PackedReader. Every value
+ * from 1 to 9999 fits in 14 bits, so a packed stream takes under 2 bytes per value instead of a line of
+ * text, and less when the values repeat or change slowly.
+ *
+ * A stream is big endian. It starts with MAGIC and VERSION as ints and is followed by blocks of at most
+ * BLOCK_SIZE values. Each block has a header (the number of values as an int, the encoding and the field
+ * width as bytes, the first value as a short and the length of the payload as an int) and a payload of
+ * bit fields, most significant bit first, padded to a whole byte. The encodings are:
+ *
+ * PACKED: each value in 14 bits.
+ * DELTA: the first value is in the header and each following value is the zigzag encoded difference from
+ * the one before it, in width bits.
+ * RUN_LENGTH: each run of equal values is the value in 14 bits followed by the length of the run minus
+ * one in width bits.
+ *
+ * The writer uses whichever encoding gives the smallest payload for each block.
+ *
+ * @version 3/18/17
+ */
+final class PackedFormat {
+
+    // "ELBP"
+    static final int MAGIC = 0x454C4250;
+    static final int VERSION = 1;
+    static final int STREAM_HEADER = 8;
+
+    // The most values in a block.
+    static final int BLOCK_SIZE = 4096;
+
+    // The size of a block header.
+    static final int BLOCK_HEADER = 12;
+
+    // The encodings, stored in the header of each block.
+    static final int PACKED = 0;
+    static final int DELTA = 1;
+    static final int RUN_LENGTH = 2;
+
+    // The number of bits in a value.
+    static final int VALUE_BITS = 14;
+
+    // The largest payload of a block, which is never more than a PACKED block.
+    static final int MAX_PAYLOAD = (BLOCK_SIZE * VALUE_BITS + 7) / 8;
+
+    private PackedFormat() {
+    }
+
+    /**
+     * Writes values as one block, in the encoding with the smallest payload.
+     *
+     * @param values The values, each between 1 and 9999
+     * @param count The number of values to write, between 1 and BLOCK_SIZE
+     * @param out The buffer to write the header and payload to
+     */
+    static void encode(int[] values, int count, ByteBuffer out) {
+        int deltaWidth = 0;
+        int runWidth = 0;
+        int runs = 1;
+        int run = 0;
+        for(int i = 1; i < count; i++) {
+            deltaWidth = Math.max(deltaWidth, width(zigzag(values[i] - values[i - 1])));
+            if(values[i] == values[i - 1]) {
+                run++;
+            } else {
+                runWidth = Math.max(runWidth, width(run));
+                runs++;
+                run = 0;
+            }
+        }
+        runWidth = Math.max(runWidth, width(run));
+
+        long packedBits = (long) count * VALUE_BITS;
+        long deltaBits = (long) (count - 1) * deltaWidth;
+        long runBits = (long) runs * (VALUE_BITS + runWidth);
+        int encoding = PACKED;
+        int width = VALUE_BITS;
+        long bits = packedBits;
+        if(deltaBits < bits) {
+            encoding = DELTA;
+            width = deltaWidth;
+            bits = deltaBits;
+        }
+        if(runBits < bits) {
+            encoding = RUN_LENGTH;
+            width = runWidth;
+            bits = runBits;
+        }
+
+        out.putInt(count).put((byte) encoding).put((byte) width).putShort((short) values[0]);
+        out.putInt((int) ((bits + 7) / 8));
+        BitWriter writer = new BitWriter(out);
+        if(encoding == PACKED) {
+            for(int i = 0; i < count; i++) {
+                writer.write(values[i], VALUE_BITS);
+            }
+        } else if(encoding == DELTA) {
+            for(int i = 1; i < count; i++) {
+                writer.write(zigzag(values[i] - values[i - 1]), width);
+            }
+        } else {
+            int start = 0;
+            for(int i = 1; i <= count; i++) {
+                if(i == count || values[i] != values[start]) {
+                    writer.write(values[start], VALUE_BITS);
+                    writer.write(i - start - 1, width);
+                    start = i;
+                }
+            }
+        }
+        writer.finish();
+    }
+
+    /**
+     * Reads the header of a block and checks it.
+     *
+     * @param header The buffer holding the header at its position, which is advanced past it
+     * @param values Receives the number of values, the encoding, the width, the first value and the length
+     * of the payload, in that order
+     * @throws IOException Thrown if the header is not valid
+     */
+    static void readHeader(ByteBuffer header, int[] values) throws IOException {
+        int count = header.getInt();
+        int encoding = header.get();
+        int width = header.get();
+        int first = header.getShort();
+        int length = header.getInt();
+        if(count < 1 || count > BLOCK_SIZE || encoding < PACKED || encoding > RUN_LENGTH
+                || width < 0 || width > VALUE_BITS + 1 || length < 0 || length > MAX_PAYLOAD) {
+            throw new IOException("corrupt packed block header");
+        }
+        values[0] = count;
+        values[1] = encoding;
+        values[2] = width;
+        values[3] = first;
+        values[4] = length;
+    }
+
+    /**
+     * Decodes the payload of a block.
+     *
+     * @param header The values read by readHeader
+     * @param payload The buffer holding the payload at its position, which is advanced past it
+     * @param values Receives the values of the block
+     * @throws IOException Thrown if the payload is not valid
+     */
+    static void decode(int[] header, ByteBuffer payload, int[] values) throws IOException {
+        int count = header[0];
+        int width = header[2];
+        BitReader reader = new BitReader(payload, header[4]);
+        if(header[1] == PACKED) {
+            for(int i = 0; i < count; i++) {
+                values[i] = check(reader.read(VALUE_BITS));
+            }
+        } else if(header[1] == DELTA) {
+            values[0] = check(header[3]);
+            for(int i = 1; i < count; i++) {
+                int delta = reader.read(width);
+                values[i] = check(values[i - 1] + ((delta >>> 1) ^ -(delta & 1)));
+            }
+        } else {
+            int i = 0;
+            while(i < count) {
+                int value = check(reader.read(VALUE_BITS));
+                int end = i + reader.read(width) + 1;
+                if(end > count) {
+                    throw new IOException("corrupt packed block: run past the end of the block");
+                }
+                while(i < end) {
+                    values[i++] = value;
+                }
+            }
+        }
+        reader.finish();
+    }
+
+    // Returns a decoded value, or throws if it is out of the Elbonian range.
+    private static int check(int value) throws IOException {
+        if(value < ElbonianTable.MIN_VALUE || value > ElbonianTable.MAX_VALUE) {
+            throw new IOException("corrupt packed block: " + value + " is out of range");
+        }
+        return value;
+    }
+
+    // Maps small negative and positive differences to small non-negative numbers.
+    private static int zigzag(int delta) {
+        return (delta << 1) ^ (delta >> 31);
+    }
+
+    // Returns the number of bits needed to write a non-negative number.
+    private static int width(int n) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(n);
+    }
+
+    /**
+     * Writes bit fields to a buffer, most significant bit first.
+     */
+    private static final class BitWriter {
+
+        private final ByteBuffer out;
+        private long bits;
+        private int count;
+
+        BitWriter(ByteBuffer out) {
+            this.out = out;
+        }
+
+        void write(int value, int width) {
+            bits = bits << width | value;
+            count += width;
+            while(count >= 8) {
+                count -= 8;
+                out.put((byte) (bits >>> count));
+            }
+            bits &= (1L << count) - 1;
+        }
+
+        // Writes the last partial byte, padded with zeros.
+        void finish() {
+            if(count > 0) {
+                out.put((byte) (bits << (8 - count)));
+            }
+        }
+
+    }
+
+    /**
+     * Reads bit fields from a buffer, most significant bit first, without reading past a payload.
+     */
+    private static final class BitReader {
+
+        private final ByteBuffer in;
+        private final int end;
+        private long bits;
+        private int count;
+
+        BitReader(ByteBuffer in, int length) {
+            this.in = in;
+            this.end = in.position() + length;
+        }
+
+        int read(int width) throws IOException {
+            while(count < width) {
+                if(in.position() >= end) {
+                    throw new IOException("corrupt packed block: payload is too short");
+                }
+                bits = bits << 8 | (in.get() & 0xFF);
+                count += 8;
+            }
+            count -= width;
+            int value = (int) (bits >>> count) & ((1 << width) - 1);
+            bits &= (1L << count) - 1;
+            return value;
+        }
+
+        // Checks that the whole payload was used.
+        void finish() throws IOException {
+            if(in.position() != end) {
+                throw new IOException("corrupt packed block: payload is too long");
+            }
+        }
+
+    }
+
+}
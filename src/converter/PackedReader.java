@@ -0,0 +1,178 @@
+package converter;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads Elbonian values written by PackedWriter, from a channel or a buffer. One block is decoded at a
+ * time, and each value can be read as an int or as the shared Elbonian numeral from the conversion table,
+ * so nothing is allocated for each value.
+ *
+ * @version 3/18/17
+ */
+public final class PackedReader implements Closeable {
+
+    // Where the blocks come from, either a channel or a buffer
+    private final ReadableByteChannel channel;
+    private final ByteBuffer source;
+
+    // The block being read from the channel
+    private final ByteBuffer block;
+
+    // The header of the current block, see PackedFormat.readHeader
+    private final int[] header = new int[5];
+
+    // The values of the current block and the index of the next one
+    private final int[] values = new int[PackedFormat.BLOCK_SIZE];
+    private int count;
+    private int next;
+
+    private boolean started;
+
+    /**
+     * Creates a reader from a channel. The channel is closed when the reader is closed.
+     *
+     * @param channel The channel to read
+     */
+    public PackedReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.source = null;
+        this.block = ByteBuffer.allocate(PackedFormat.BLOCK_HEADER + PackedFormat.MAX_PAYLOAD);
+    }
+
+    /**
+     * Creates a reader from a buffer, starting at its position. The position is advanced as each block is
+     * decoded.
+     *
+     * @param source The buffer to read
+     */
+    public PackedReader(ByteBuffer source) {
+        this.channel = null;
+        this.source = source;
+        this.block = null;
+    }
+
+    /**
+     * Returns true if there is another value.
+     *
+     * @return True if nextInt will return a value
+     * @throws IOException Thrown if the next block cannot be read or is not valid
+     */
+    public boolean hasNext() throws IOException {
+        if(next < count) {
+            return true;
+        }
+        return readBlock();
+    }
+
+    /**
+     * Returns the next value.
+     *
+     * @return A value between 1 and 9999
+     * @throws NoSuchElementException Thrown if there are no more values
+     * @throws IOException Thrown if the next block cannot be read or is not valid
+     */
+    public int nextInt() throws IOException {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return values[next++];
+    }
+
+    /**
+     * Returns the Elbonian numeral for the next value.
+     *
+     * @return The shared numeral from the conversion table
+     * @throws NoSuchElementException Thrown if there are no more values
+     * @throws IOException Thrown if the next block cannot be read or is not valid
+     */
+    public String nextElbonian() throws IOException {
+        return ElbonianTable.toElbonian(nextInt());
+    }
+
+    /**
+     * Reads values into an array, up to the end of the current block.
+     *
+     * @param out The array to fill
+     * @param from The index to write the first value to
+     * @param to The index after the last value to write
+     * @return The number of values read, or -1 if there are no more values
+     * @throws IOException Thrown if the next block cannot be read or is not valid
+     */
+    public int read(int[] out, int from, int to) throws IOException {
+        if(!hasNext()) {
+            return -1;
+        }
+        int length = Math.min(to - from, count - next);
+        System.arraycopy(values, next, out, from, length);
+        next += length;
+        return length;
+    }
+
+    /**
+     * Closes the channel, if reading from one.
+     *
+     * @throws IOException Thrown if the channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if(channel != null) {
+            channel.close();
+        }
+    }
+
+    // Decodes the next block, or returns false at the end of the stream.
+    private boolean readBlock() throws IOException {
+        if(!started) {
+            ByteBuffer stream = fill(PackedFormat.STREAM_HEADER, false);
+            if(stream.getInt() != PackedFormat.MAGIC) {
+                throw new IOException("not a packed Elbonian stream");
+            }
+            int version = stream.getInt();
+            if(version != PackedFormat.VERSION) {
+                throw new IOException("unsupported packed Elbonian version " + version);
+            }
+            started = true;
+        }
+        ByteBuffer in = fill(PackedFormat.BLOCK_HEADER, true);
+        if(in == null) {
+            return false;
+        }
+        PackedFormat.readHeader(in, header);
+        in = fill(header[4], false);
+        PackedFormat.decode(header, in, values);
+        count = header[0];
+        next = 0;
+        return true;
+    }
+
+    // Returns a buffer with the next length bytes at its position. If atBoundary is true the stream may
+    // end before the first byte, and null is returned.
+    private ByteBuffer fill(int length, boolean atBoundary) throws IOException {
+        if(source != null) {
+            if(source.remaining() == 0 && atBoundary) {
+                return null;
+            }
+            if(source.remaining() < length) {
+                throw new EOFException("packed stream is truncated");
+            }
+            return source;
+        }
+        block.clear().limit(length);
+        while(block.hasRemaining()) {
+            if(channel.read(block) < 0) {
+                if(block.position() == 0 && atBoundary) {
+                    return null;
+                }
+                throw new EOFException("packed stream is truncated");
+            }
+        }
+        block.flip();
+        return block;
+    }
+
+}
@@ -0,0 +1,177 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes Elbonian values in the packed binary format described by PackedFormat, to a channel or into a
+ * buffer. Values are collected into blocks of PackedFormat.BLOCK_SIZE and each block is written in the
+ * smallest of its encodings when it is full, when flush is called or when the writer is closed.
+ *
+ * @version 3/18/17
+ */
+public final class PackedWriter implements Closeable {
+
+    // Where the blocks go, either a channel or a buffer
+    private final WritableByteChannel channel;
+    private final ByteBuffer target;
+
+    // The encoded block, staged here so a block that does not fit is not partly written
+    private final ByteBuffer block = ByteBuffer.allocate(PackedFormat.STREAM_HEADER + PackedFormat.BLOCK_HEADER
+            + PackedFormat.MAX_PAYLOAD);
+
+    // The values of the current block
+    private final int[] values = new int[PackedFormat.BLOCK_SIZE];
+    private int count;
+
+    private boolean started;
+    private boolean closed;
+
+    /**
+     * Creates a writer to a channel. The channel is closed when the writer is closed.
+     *
+     * @param channel The channel to write to
+     */
+    public PackedWriter(WritableByteChannel channel) {
+        this.channel = channel;
+        this.target = null;
+    }
+
+    /**
+     * Creates a writer into a buffer, starting at its position. Each block is put into the buffer when it
+     * is written, which advances the position. A block that does not fit is not written at all, so after a
+     * BufferOverflowException the caller can make room (for example by raising the limit) and flush again.
+     *
+     * @param target The buffer to write to
+     */
+    public PackedWriter(ByteBuffer target) {
+        this.channel = null;
+        this.target = target;
+    }
+
+    /**
+     * Writes a value.
+     *
+     * @param value A value between 1 and 9999
+     * @throws IllegalArgumentException Thrown if the value is out of range
+     * @throws IOException Thrown if a full block cannot be written
+     * @throws BufferOverflowException Thrown if a full block does not fit in the target buffer. The value
+     * is written and the block is kept.
+     */
+    public void write(int value) throws IOException {
+        if(value < ElbonianTable.MIN_VALUE || value > ElbonianTable.MAX_VALUE) {
+            throw new IllegalArgumentException(value + " is out of the Elbonian range");
+        }
+        if(closed) {
+            throw new IOException("writer is closed");
+        }
+
+        // A full block is left over if it did not fit in the target last time.
+        if(count == values.length) {
+            flush();
+        }
+        values[count++] = value;
+        if(count == values.length) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes values from an array.
+     *
+     * @param in The values, each between 1 and 9999
+     * @param from The index of the first value to write
+     * @param to The index after the last value to write
+     * @throws IllegalArgumentException Thrown if a value is out of range. The values before it are written.
+     * @throws IOException Thrown if a full block cannot be written
+     */
+    public void write(int[] in, int from, int to) throws IOException {
+        for(int i = from; i < to; i++) {
+            write(in[i]);
+        }
+    }
+
+    /**
+     * Writes the value of an Elbonian or Arabic number, following the same rules as the
+     * ElbonianArabicConverter constructor. The exceptions are thrown without a stack trace.
+     *
+     * @param number A string that represents either a Elbonian or Arabic number.
+     * @throws ValueOutOfBoundsException Thrown if the value is an Arabic integer that cannot be represented
+     * in the Elbonian number system.
+     * @throws MalformedNumberException Thrown if the value is not a valid Elbonian or Arabic number.
+     * @throws IOException Thrown if a full block cannot be written
+     */
+    public void writeNumber(CharSequence number) throws MalformedNumberException, ValueOutOfBoundsException, IOException {
+        int result = ElbonianParser.parse(number, 0, number.length());
+        ElbonianArabicConverter.checkResult(result, false);
+        write(result);
+    }
+
+    /**
+     * Writes the values collected so far as a block, even if it is not full. The stream header is written
+     * with the first block.
+     *
+     * @throws IOException Thrown if the block cannot be written
+     * @throws BufferOverflowException Thrown if the block does not fit in the target buffer. Nothing is
+     * written and the values are kept.
+     */
+    public void flush() throws IOException {
+        if(started && count == 0) {
+            return;
+        }
+        block.clear();
+        if(!started) {
+            block.putInt(PackedFormat.MAGIC).putInt(PackedFormat.VERSION);
+        }
+        if(count > 0) {
+            PackedFormat.encode(values, count, block);
+        }
+        block.flip();
+        if(target != null) {
+            if(target.remaining() < block.remaining()) {
+                throw new BufferOverflowException();
+            }
+            target.put(block);
+        } else {
+            while(block.hasRemaining()) {
+                channel.write(block);
+            }
+        }
+        started = true;
+        count = 0;
+    }
+
+    /**
+     * Writes the last block and closes the channel, if writing to one. A stream with no values is written
+     * as just its header.
+     *
+     * @throws IOException Thrown if the block cannot be written or the channel cannot be closed
+     * @throws BufferOverflowException Thrown if the last block does not fit in the target buffer. The writer
+     * stays open.
+     */
+    @Override
+    public void close() throws IOException {
+        if(closed) {
+            return;
+        }
+        if(channel == null) {
+            // Left open if the last block does not fit, so it can be written once there is room.
+            flush();
+            closed = true;
+            return;
+        }
+        closed = true;
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+}
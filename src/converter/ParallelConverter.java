@@ -0,0 +1,182 @@
+package converter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class converts large arrays and lists on a ForkJoinPool. The input is split into chunks that are
+ * converted with the BatchConverter loops, and every result is written to the same index as its input,
+ * so the output is always in input order. Batches smaller than SEQUENTIAL_THRESHOLD are converted on the
+ * calling thread.
+ *
+ * @version 3/18/17
+ */
+public final class ParallelConverter {
+
+    // Batches with fewer elements than this are converted on the calling thread.
+    public static final int SEQUENTIAL_THRESHOLD = 8192;
+
+    // The smallest chunk handed to a worker.
+    private static final int MIN_CHUNK = 2048;
+
+    // How many chunks to make for each worker, so faster workers can take more of them.
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private ParallelConverter() {
+    }
+
+    /**
+     * Converts Arabic values to their Elbonian numerals on the common pool.
+     * See BatchConverter.toElbonian(int[], String[]).
+     *
+     * @param in The values to convert
+     * @param out Receives the numeral for each value, or null if the value is not between 1 and 9999
+     * @return A report for each chunk, in input order
+     */
+    public static List<ChunkReport> toElbonian(int[] in, String[] out) {
+        return toElbonian(in, out, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts Arabic values to their Elbonian numerals on the given pool.
+     * See BatchConverter.toElbonian(int[], String[]).
+     *
+     * @param in The values to convert
+     * @param out Receives the numeral for each value, or null if the value is not between 1 and 9999
+     * @param pool The pool to run the chunks on
+     * @return A report for each chunk, in input order
+     */
+    public static List<ChunkReport> toElbonian(int[] in, String[] out, ForkJoinPool pool) {
+        BatchConverter.checkLength(in.length, out.length);
+        return run(in.length, pool, (from, to) -> BatchConverter.toElbonian(in, out, from, to));
+    }
+
+    /**
+     * Converts Elbonian or Arabic numbers to their Arabic values on the common pool.
+     * See BatchConverter.toArabic(CharSequence[], int[], byte[]).
+     *
+     * @param in The numbers to convert
+     * @param out Receives the value of each number, or the negative failure from tryParse
+     * @param status Receives BatchConverter.OK for each number that was converted, or the FailureReason
+     * ordinal plus one
+     * @return A report for each chunk, in input order
+     */
+    public static List<ChunkReport> toArabic(CharSequence[] in, int[] out, byte[] status) {
+        return toArabic(in, out, status, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts Elbonian or Arabic numbers to their Arabic values on the given pool.
+     * See BatchConverter.toArabic(CharSequence[], int[], byte[]).
+     *
+     * @param in The numbers to convert
+     * @param out Receives the value of each number, or the negative failure from tryParse
+     * @param status Receives BatchConverter.OK for each number that was converted, or the FailureReason
+     * ordinal plus one
+     * @param pool The pool to run the chunks on
+     * @return A report for each chunk, in input order
+     */
+    public static List<ChunkReport> toArabic(CharSequence[] in, int[] out, byte[] status, ForkJoinPool pool) {
+        BatchConverter.checkLength(in.length, out.length);
+        BatchConverter.checkLength(in.length, status.length);
+        return run(in.length, pool, (from, to) -> BatchConverter.toArabic(in, out, status, from, to));
+    }
+
+    /**
+     * Converts a list of Elbonian or Arabic numbers to their Arabic values on the common pool. A list
+     * that does not support fast random access is copied to an array first.
+     *
+     * @param in The numbers to convert
+     * @param out Receives the value of each number, or the negative failure from tryParse
+     * @param status Receives BatchConverter.OK for each number that was converted, or the FailureReason
+     * ordinal plus one
+     * @return A report for each chunk, in input order
+     */
+    public static List<ChunkReport> toArabic(List<? extends CharSequence> in, int[] out, byte[] status) {
+        return toArabic(in, out, status, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a list of Elbonian or Arabic numbers to their Arabic values on the given pool. A list
+     * that does not support fast random access is copied to an array first.
+     *
+     * @param in The numbers to convert
+     * @param out Receives the value of each number, or the negative failure from tryParse
+     * @param status Receives BatchConverter.OK for each number that was converted, or the FailureReason
+     * ordinal plus one
+     * @param pool The pool to run the chunks on
+     * @return A report for each chunk, in input order
+     */
+    public static List<ChunkReport> toArabic(List<? extends CharSequence> in, int[] out, byte[] status,
+                                             ForkJoinPool pool) {
+        if(!(in instanceof RandomAccess)) {
+            return toArabic(in.toArray(new CharSequence[in.size()]), out, status, pool);
+        }
+        BatchConverter.checkLength(in.size(), out.length);
+        BatchConverter.checkLength(in.size(), status.length);
+        return run(in.size(), pool, (from, to) -> BatchConverter.toArabic(in, out, status, from, to));
+    }
+
+    // Splits length elements into chunks, converts them on the pool and returns their reports in order.
+    private static List<ChunkReport> run(int length, ForkJoinPool pool, Chunk chunk) {
+        if(length < SEQUENTIAL_THRESHOLD) {
+            List<ChunkReport> reports = new ArrayList<>(1);
+            reports.add(new ChunkReport(0, length, chunk.convert(0, length)));
+            return reports;
+        }
+        int chunkSize = Math.max(MIN_CHUNK, length / (pool.getParallelism() * CHUNKS_PER_WORKER) + 1);
+        ChunkReport[] reports = new ChunkReport[(length + chunkSize - 1) / chunkSize];
+        pool.invoke(new ChunkTask(chunk, reports, chunkSize, length, 0, reports.length));
+        return Arrays.asList(reports);
+    }
+
+    /**
+     * Converts the elements from one index up to another.
+     */
+    private interface Chunk {
+        int convert(int from, int to);
+    }
+
+    /**
+     * Converts a range of chunks, splitting it in half until there is one chunk per task.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Chunk chunk;
+        private final ChunkReport[] reports;
+        private final int chunkSize;
+        private final int length;
+        private final int first;
+        private final int last;
+
+        ChunkTask(Chunk chunk, ChunkReport[] reports, int chunkSize, int length, int first, int last) {
+            this.chunk = chunk;
+            this.reports = reports;
+            this.chunkSize = chunkSize;
+            this.length = length;
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        protected void compute() {
+            if(last - first > 1) {
+                int middle = (first + last) >>> 1;
+                invokeAll(new ChunkTask(chunk, reports, chunkSize, length, first, middle),
+                        new ChunkTask(chunk, reports, chunkSize, length, middle, last));
+                return;
+            }
+            int from = first * chunkSize;
+            int to = Math.min(length, from + chunkSize);
+            reports[first] = new ChunkReport(from, to, chunk.convert(from, to));
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package converter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A Flight Recorder event for a number rejected by the ElbonianArabicConverter constructor.
+ *
+ * @version 3/18/17
+ */
+@Name("converter.Rejection")
+@Label("Rejection")
+@Category("Elbonian Converter")
+@Description("The constructor rejected a number")
+final class RejectionEvent extends jdk.jfr.Event {
+
+    @Label("Reason")
+    String reason;
+
+    @Label("Offset")
+    int offset;
+
+    @Label("Length")
+    int length;
+
+    @Label("Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long latency;
+
+}
@@ -0,0 +1,31 @@
+package converter;
+
+/**
+ * A SymbolScreen that looks up each byte in a table. This is used when the vector screen is not available.
+ *
+ * @version 3/18/17
+ */
+final class ScalarScreen implements SymbolScreen {
+
+    // The summary bit of each byte value.
+    private static final int[] CLASSES = new int[256];
+
+    static {
+        for(int i = 0; i < CLASSES.length; i++) {
+            CLASSES[i] = i >= '0' && i <= '9' ? DIGIT : OTHER;
+        }
+        for(int i = 0; i < ElbonianTable.SYMBOLS.length; i++) {
+            CLASSES[ElbonianTable.SYMBOLS[i]] = 1 << i;
+        }
+    }
+
+    @Override
+    public int screen(byte[] text, int from, int to) {
+        int summary = 0;
+        for(int i = from; i < to; i++) {
+            summary |= CLASSES[text[i] & 0xFF];
+        }
+        return summary;
+    }
+
+}
@@ -0,0 +1,31 @@
+package converter;
+
+/**
+ * Summarizes which kinds of characters appear in a run of ASCII bytes, so a batch can skip the full parser
+ * for numbers that are plainly valid. Bits 0 to 11 of a summary are the Elbonian symbols in the order of
+ * ElbonianTable.SYMBOLS, and the DIGIT and OTHER bits mark digits and every other byte.
+ *
+ * @version 3/18/17
+ */
+interface SymbolScreen {
+
+    // Set if any byte is a digit.
+    int DIGIT = 1 << 12;
+
+    // Set if any byte is neither an Elbonian symbol nor a digit.
+    int OTHER = 1 << 13;
+
+    // The bits of all the Elbonian symbols.
+    int SYMBOLS = DIGIT - 1;
+
+    /**
+     * Returns the summary of the bytes from one index up to another.
+     *
+     * @param text The bytes to read
+     * @param from The index of the first byte
+     * @param to The index after the last byte
+     * @return The bits of every kind of character seen
+     */
+    int screen(byte[] text, int from, int to);
+
+}
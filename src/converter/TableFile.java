@@ -0,0 +1,226 @@
+package converter;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A binary file holding the conversion tables for every value from 1 to 9999, so they can be memory
+ * mapped instead of built on the heap. The file is mapped read only, so every JVM on a host that uses the
+ * same file shares one copy of it in the page cache.
+ *
+ * Start a JVM with -Dconverter.table=path to make ElbonianArabicConverter read its tables from the file.
+ * If the file cannot be used a warning is logged and the tables are built on the heap as usual. Create
+ * the file with "java converter.TableFile path".
+ *
+ * The file is big endian and holds, in order: the header (magic, version, MAX_VALUE and the number of
+ * symbols), the symbols as ASCII bytes, the start of each numeral in the string data and the end of the
+ * last one (MAX_VALUE + 2 ints), the reverse index (the symbol trie of ElbonianTable, one short per node
+ * and symbol), and the numerals as ASCII bytes. The reverse index is the trie rather than a hash, because
+ * the parser follows it one symbol at a time while it validates a number.
+ *
+ * @version 3/18/17
+ */
+public final class TableFile {
+
+    // "ELBT"
+    private static final int MAGIC = 0x454C4254;
+    private static final int VERSION = 1;
+
+    // The size of the header and the start of each section
+    private static final int HEADER = 16;
+    private static final int SYMBOLS = HEADER;
+    private static final int OFFSETS = SYMBOLS + ElbonianTable.SYMBOLS.length;
+    private static final int TRIE = OFFSETS + 4 * (ElbonianTable.MAX_VALUE + 2);
+    private static final int STRINGS = TRIE + 2 * (ElbonianTable.MAX_VALUE + 1) * ElbonianTable.SYMBOLS.length;
+
+    // Where a file that cannot be used is reported.
+    private static final Logger LOG = Logger.getLogger(TableFile.class.getName());
+
+    // The mapped file
+    private final ByteBuffer buffer;
+
+    private TableFile(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Writes the tables to a file.
+     *
+     * @param file The file to write, replacing it if it exists
+     * @throws IOException Thrown if the file cannot be written
+     */
+    public static void write(Path file) throws IOException {
+        int symbols = ElbonianTable.SYMBOLS.length;
+        int strings = 0;
+        for(int value = ElbonianTable.MIN_VALUE; value <= ElbonianTable.MAX_VALUE; value++) {
+            strings += ElbonianTable.toElbonian(value).length();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(STRINGS + strings);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(ElbonianTable.MAX_VALUE).putInt(symbols);
+        for(char symbol : ElbonianTable.SYMBOLS) {
+            buffer.put((byte) symbol);
+        }
+
+        // Value 0 is the empty numeral, so its start and end are both 0.
+        int offset = 0;
+        buffer.putInt(offset);
+        for(int value = ElbonianTable.MIN_VALUE; value <= ElbonianTable.MAX_VALUE; value++) {
+            buffer.putInt(offset);
+            offset += ElbonianTable.toElbonian(value).length();
+        }
+        buffer.putInt(offset);
+        for(int node = 0; node <= ElbonianTable.MAX_VALUE; node++) {
+            for(int symbol = 0; symbol < symbols; symbol++) {
+                buffer.putShort((short) ElbonianTable.next(node, symbol));
+            }
+        }
+        for(int value = ElbonianTable.MIN_VALUE; value <= ElbonianTable.MAX_VALUE; value++) {
+            buffer.put(ElbonianTable.toElbonian(value).getBytes(StandardCharsets.US_ASCII));
+        }
+        buffer.flip();
+
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while(buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Maps a table file and checks that it was written for these symbols and values, and that every offset
+     * and trie node in it is in range.
+     *
+     * @param file The file to map
+     * @return The mapped tables
+     * @throws IOException Thrown if the file cannot be read or is not a valid table file
+     */
+    public static TableFile open(Path file) throws IOException {
+        ByteBuffer buffer;
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if(channel.size() < STRINGS || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(file + " is not a table file");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if(buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException(file + " is not a version " + VERSION + " table file");
+        }
+        if(buffer.getInt(8) != ElbonianTable.MAX_VALUE || buffer.getInt(12) != ElbonianTable.SYMBOLS.length) {
+            throw new IOException(file + " was written for different values");
+        }
+        for(int i = 0; i < ElbonianTable.SYMBOLS.length; i++) {
+            if(buffer.get(SYMBOLS + i) != ElbonianTable.SYMBOLS[i]) {
+                throw new IOException(file + " was written for different symbols");
+            }
+        }
+        if(buffer.getInt(OFFSETS + 4 * (ElbonianTable.MAX_VALUE + 1)) != buffer.capacity() - STRINGS) {
+            throw new IOException(file + " is truncated");
+        }
+
+        // Nothing in the file is trusted after it is opened, so every offset and node is checked here.
+        int previous = 0;
+        for(int value = 0; value <= ElbonianTable.MAX_VALUE + 1; value++) {
+            int offset = buffer.getInt(OFFSETS + 4 * value);
+            if(offset < previous || (value == 0 && offset != 0)) {
+                throw new IOException(file + " has a corrupt offset for " + value);
+            }
+            previous = offset;
+        }
+        for(int index = 0; index < (ElbonianTable.MAX_VALUE + 1) * ElbonianTable.SYMBOLS.length; index++) {
+            int node = buffer.getShort(TRIE + 2 * index);
+            if(node < 0 || node > ElbonianTable.MAX_VALUE) {
+                throw new IOException(file + " has a corrupt reverse index");
+            }
+        }
+        return new TableFile(buffer);
+    }
+
+    // Maps the file named by the converter.table system property, or returns null if it is not set or the
+    // file cannot be used.
+    static TableFile openConfigured() {
+        String path = System.getProperty("converter.table");
+        if(path == null) {
+            return null;
+        }
+        try {
+            return open(Paths.get(path));
+        } catch(IOException | RuntimeException e) {
+            LOG.log(Level.WARNING, "converter.table: " + e.getMessage() + ", building the tables instead", e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the Elbonian numeral for a value from the file. A new string is created for each call.
+     *
+     * @param value A value between 1 and 9999
+     * @return The Elbonian numeral for the value
+     * @throws IllegalArgumentException Thrown if the value is out of range
+     */
+    public String toElbonian(int value) {
+        if(value < ElbonianTable.MIN_VALUE || value > ElbonianTable.MAX_VALUE) {
+            throw new IllegalArgumentException(value + " is out of the Elbonian range");
+        }
+        return numeral(value);
+    }
+
+    /**
+     * Looks up the value of an Elbonian numeral in the file's reverse index.
+     *
+     * @param numeral The numeral, with no leading or trailing spaces
+     * @return The value of the numeral, or -1 if it is not a valid Elbonian numeral
+     */
+    public int toArabic(CharSequence numeral) {
+        int node = 0;
+        for(int i = 0; i < numeral.length(); i++) {
+            int symbol = ElbonianTable.symbolIndex(numeral.charAt(i));
+            if(symbol < 0) {
+                return -1;
+            }
+            node = next(node * ElbonianTable.SYMBOLS.length + symbol);
+            if(node == 0) {
+                return -1;
+            }
+        }
+        return node == 0 ? -1 : node;
+    }
+
+    // Reads the numeral for a value between 0 and MAX_VALUE.
+    String numeral(int value) {
+        int start = buffer.getInt(OFFSETS + 4 * value);
+        int end = buffer.getInt(OFFSETS + 4 * (value + 1));
+        char[] chars = new char[end - start];
+        for(int i = 0; i < chars.length; i++) {
+            chars[i] = (char) buffer.get(STRINGS + start + i);
+        }
+        return new String(chars);
+    }
+
+    // Reads entry node * SYMBOLS.length + symbol of the trie.
+    int next(int index) {
+        return buffer.getShort(TRIE + 2 * index);
+    }
+
+    /**
+     * Writes a table file from the command line.
+     *
+     * @param args The file to write
+     * @throws IOException Thrown if the file cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 1) {
+            System.err.println("usage: TableFile <output>");
+            System.exit(2);
+        }
+        write(Paths.get(args[0]));
+    }
+
+}
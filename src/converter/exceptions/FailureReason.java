@@ -0,0 +1,50 @@
+package converter.exceptions;
+
+/**
+ * The reasons a string can fail to be converted, in the order the ElbonianArabicConverter constructor
+ * checks for them.
+ *
+ * @version 3/18/17
+ */
+public enum FailureReason {
+
+    EMPTY(false, "number is an empty string"),
+    ZERO(true, "its 0"),
+    SPACE(false, "number has spaces in between"),
+    SPECIAL_CHARACTER(false, "number has a special character"),
+    ALPHANUMERIC(false, "number is an alphanumeric"),
+    OUT_OF_BOUNDS(true, "number is out of bounds"),
+    DECIMAL(false, "number is a decimal"),
+    LETTER_RULE(false, "number fails the if ___ letter exists, ___ cannot exist rule"),
+    ORDERING(false, "number is not in order of greatest magnitude or has too many of a letter");
+
+    // True if the reason is reported with a ValueOutOfBoundsException instead of a MalformedNumberException.
+    private final boolean outOfBounds;
+
+    // A description of the error
+    private final String message;
+
+    FailureReason(boolean outOfBounds, String message) {
+        this.outOfBounds = outOfBounds;
+        this.message = message;
+    }
+
+    /**
+     * Returns true if this reason is reported with a ValueOutOfBoundsException.
+     *
+     * @return True for values that cannot be represented in the Elbonian number system
+     */
+    public boolean isOutOfBounds() {
+        return outOfBounds;
+    }
+
+    /**
+     * Returns a description of the error.
+     *
+     * @return The message used by the constructor's exceptions
+     */
+    public String getMessage() {
+        return message;
+    }
+
+}
@@ -7,6 +7,12 @@ package converter.exceptions;
  */
 public class MalformedNumberException extends Exception {
 
+    // The reason the number was rejected
+    private final FailureReason reason;
+
+    // The index of the character that caused the error
+    private final int offset;
+
     /**
      * Constructor with a description message for the malformed number Exception.
      *
@@ -14,6 +20,41 @@ public class MalformedNumberException extends Exception {
      */
     public MalformedNumberException(String message) {
         super(message);
+        this.reason = null;
+        this.offset = -1;
+    }
+
+    /**
+     * Constructor for a malformed number Exception found while parsing a number. The message is the
+     * description of the reason. Creating the exception without a stack trace makes it much cheaper
+     * to throw, which helps when many invalid numbers are rejected.
+     *
+     * @param reason The reason the number was rejected
+     * @param offset The index of the character that caused the error
+     * @param stackTrace False to create the exception without a stack trace
+     */
+    public MalformedNumberException(FailureReason reason, int offset, boolean stackTrace) {
+        super(reason.getMessage(), null, stackTrace, stackTrace);
+        this.reason = reason;
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the reason the number was rejected.
+     *
+     * @return The reason, or null if the exception was created with only a message
+     */
+    public FailureReason getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns the index of the character that caused the error.
+     *
+     * @return The index of the character, or -1 if the exception was created with only a message
+     */
+    public int getOffset() {
+        return offset;
     }
 
 }
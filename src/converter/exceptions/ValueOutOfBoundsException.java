@@ -8,6 +8,12 @@ package converter.exceptions;
  */
 public class ValueOutOfBoundsException extends Exception {
 
+    // The reason the number was rejected
+    private final FailureReason reason;
+
+    // The index of the character that caused the error
+    private final int offset;
+
     /**
      * Constructor with a descriptive message for the value out of bounds exception.
      *
@@ -15,6 +21,40 @@ public class ValueOutOfBoundsException extends Exception {
      */
     public ValueOutOfBoundsException(String message) {
         super(message);
+        this.reason = null;
+        this.offset = -1;
+    }
+
+    /**
+     * Constructor for a value out of bounds exception found while parsing a number, with the description
+     * of the reason as its message.
+     *
+     * @param reason The reason the number was rejected
+     * @param offset The index of the character that caused the error
+     * @param stackTrace False to skip filling in the stack trace
+     */
+    public ValueOutOfBoundsException(FailureReason reason, int offset, boolean stackTrace) {
+        super(reason.getMessage(), null, stackTrace, stackTrace);
+        this.reason = reason;
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the reason the number was rejected.
+     *
+     * @return The reason, or null if the exception was created with only a message
+     */
+    public FailureReason getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns the index of the character that caused the error.
+     *
+     * @return The index of the character, or -1 if the exception was created with only a message
+     */
+    public int getOffset() {
+        return offset;
     }
 
 }
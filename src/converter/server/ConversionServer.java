@@ -0,0 +1,264 @@
+package converter.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A server that converts numbers for other processes over a line based TCP protocol, and optionally over
+ * HTTP. Each connection is served by its own thread: a virtual thread when the JVM has them (Java 21 and
+ * later), otherwise a pooled platform thread.
+ *
+ * Over TCP, a client sends one Arabic or Elbonian number per line and gets one response per line, in the
+ * same order (see LineConverter for the responses). Requests can be pipelined: the server converts every
+ * complete line it has read and answers them all with one write.
+ *
+ * Over HTTP, GET /convert?n=MMCXX answers one number and POST /convert answers one number per line of the
+ * request body.
+ *
+ * @version 3/18/17
+ */
+public final class ConversionServer implements Closeable {
+
+    // The size of each connection's read and write buffers. A line longer than this is answered with
+    // "ERR TOO_LONG" and the rest of it is skipped.
+    private static final int BUFFER = 64 * 1024;
+
+    // Where errors that cannot be reported to a client are logged.
+    private static final Logger LOG = Logger.getLogger(ConversionServer.class.getName());
+
+    private final ServerSocket serverSocket;
+    private final HttpServer httpServer;
+    private final ExecutorService connections;
+
+    // The connections that are open, so they can be closed when the server is
+    private final Set<Socket> open = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts a server with only the TCP protocol.
+     *
+     * @param port The TCP port, or 0 for any free port
+     * @throws IOException Thrown if the port cannot be opened
+     */
+    public ConversionServer(int port) throws IOException {
+        this(port, -1);
+    }
+
+    /**
+     * Starts a server with the TCP protocol and HTTP.
+     *
+     * @param port The TCP port, or 0 for any free port
+     * @param httpPort The HTTP port, 0 for any free port, or -1 for no HTTP
+     * @throws IOException Thrown if a port cannot be opened
+     */
+    public ConversionServer(int port, int httpPort) throws IOException {
+        connections = newConnectionExecutor();
+        serverSocket = new ServerSocket(port);
+        if(httpPort >= 0) {
+            httpServer = HttpServer.create(new InetSocketAddress(httpPort), 0);
+            httpServer.createContext("/convert", this::serveHttp);
+            httpServer.setExecutor(connections);
+            httpServer.start();
+        } else {
+            httpServer = null;
+        }
+        new Thread(this::accept, "conversion-server-accept").start();
+    }
+
+    /**
+     * Returns the TCP port the server is listening on.
+     *
+     * @return The port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the HTTP port the server is listening on.
+     *
+     * @return The port, or -1 if the server has no HTTP
+     */
+    public int getHttpPort() {
+        return httpServer != null ? httpServer.getAddress().getPort() : -1;
+    }
+
+    /**
+     * Stops accepting connections, closes the connections that are open and stops the server.
+     *
+     * @throws IOException Thrown if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            serverSocket.close();
+            if(httpServer != null) {
+                httpServer.stop(0);
+            }
+            for(Socket socket : open) {
+                socket.close();
+            }
+        } finally {
+            connections.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a server from the command line.
+     *
+     * @param args The TCP port, and optionally the HTTP port
+     * @throws IOException Thrown if a port cannot be opened
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 1 || args.length > 2) {
+            System.err.println("usage: ConversionServer <port> [http port]");
+            System.exit(2);
+        }
+        ConversionServer server = new ConversionServer(Integer.parseInt(args[0]),
+                args.length > 1 ? Integer.parseInt(args[1]) : -1);
+        System.out.println("listening on port " + server.getPort()
+                + (server.getHttpPort() >= 0 ? ", http port " + server.getHttpPort() : ""));
+    }
+
+    // Accepts connections until the server socket is closed.
+    private void accept() {
+        while(!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.execute(() -> serve(socket));
+            } catch(IOException e) {
+                if(!serverSocket.isClosed()) {
+                    LOG.log(Level.WARNING, "cannot accept a connection", e);
+                }
+            }
+        }
+    }
+
+    // Converts requests from one connection until the client closes it.
+    private void serve(Socket socket) {
+        open.add(socket);
+        try(Socket s = socket; InputStream in = s.getInputStream(); OutputStream out = s.getOutputStream()) {
+            s.setTcpNoDelay(true);
+            LineConverter converter = new LineConverter(out, BUFFER);
+            byte[] input = new byte[BUFFER];
+            int start = 0;
+            int end = 0;
+            boolean skipping = false;
+            int n;
+            while((n = in.read(input, end, input.length - end)) > 0) {
+                end += n;
+
+                // Drops the rest of a line that was too long, up to and including its newline.
+                if(skipping) {
+                    int newline = indexOf(input, start, end, (byte) '\n');
+                    if(newline < 0) {
+                        end = 0;
+                        continue;
+                    }
+                    skipping = false;
+                    start = newline + 1;
+                }
+                start = converter.convertLines(input, start, end);
+                converter.flush();
+
+                // A line that fills the whole buffer gets one error response and the rest of it is skipped.
+                if(start == 0 && end == input.length) {
+                    converter.tooLong(input.length);
+                    converter.flush();
+                    skipping = true;
+                    start = end;
+                }
+                System.arraycopy(input, start, input, 0, end - start);
+                end -= start;
+                start = 0;
+            }
+        } catch(SocketException e) {
+            // The client closed the connection.
+        } catch(IOException e) {
+            LOG.log(Level.WARNING, "connection from " + socket.getRemoteSocketAddress() + " failed", e);
+        } finally {
+            open.remove(socket);
+        }
+    }
+
+    // Answers an HTTP request.
+    private void serveHttp(HttpExchange exchange) throws IOException {
+        try {
+            byte[] request;
+            if(exchange.getRequestMethod().equals("POST")) {
+                request = readAll(exchange.getRequestBody());
+            } else {
+                String query = exchange.getRequestURI().getRawQuery();
+                String number = query != null && query.startsWith("n=") ? query.substring(2) : "";
+                request = (URLDecoder.decode(number, "UTF-8") + "\n").getBytes(StandardCharsets.UTF_8);
+            }
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            LineConverter converter = new LineConverter(response, BUFFER);
+            int start = converter.convertLines(request, 0, request.length);
+            if(start < request.length) {
+                converter.convert(request, start, request.length);
+            }
+            converter.flush();
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=us-ascii");
+            exchange.sendResponseHeaders(200, response.size());
+            response.writeTo(exchange.getResponseBody());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Returns the index of the first b between from and to, or -1 if there is none.
+    private static int indexOf(byte[] bytes, int from, int to, byte b) {
+        for(int i = from; i < to; i++) {
+            if(bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Reads a stream to the end.
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER];
+        int n;
+        while((n = in.read(buffer)) > 0) {
+            bytes.write(buffer, 0, n);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Returns an executor that starts a virtual thread per task on Java 21 and later, or a pool of daemon
+    // platform threads on older JVMs.
+    private static ExecutorService newConnectionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch(ReflectiveOperationException | UnsupportedOperationException e) {
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "conversion-server-connection");
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newCachedThreadPool(factory);
+        }
+    }
+
+}
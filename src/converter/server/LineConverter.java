@@ -0,0 +1,130 @@
+package converter.server;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianCodec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Converts newline separated requests held in a byte array and buffers the responses until they are
+ * flushed, so a batch of pipelined requests is answered with one write.
+ *
+ * Each request is an Arabic or Elbonian number. The response to a valid number is its Arabic and Elbonian
+ * forms, "2120 MMCXX". The response to an invalid number is "ERR" followed by the FailureReason and the
+ * index of the character in the request that caused it, "ERR LETTER_RULE 2". A request longer than the
+ * server's buffer is answered once with "ERR TOO_LONG" and the length of the buffer.
+ *
+ * @version 3/18/17
+ */
+final class LineConverter {
+
+    // The longest response, with room to spare ("ERR SPECIAL_CHARACTER 134217727").
+    private static final int MAX_RESPONSE = 64;
+
+    // Where the responses are written
+    private final OutputStream out;
+
+    // Responses that have not been written yet
+    private final byte[] buffer;
+    private int length;
+
+    LineConverter(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[Math.max(bufferSize, MAX_RESPONSE)];
+    }
+
+    /**
+     * Converts every complete line between two indexes. A carriage return before the newline is ignored,
+     * since the number is trimmed the same way the ElbonianArabicConverter constructor trims it.
+     *
+     * @param in The requests
+     * @param from The index of the first byte of the first request
+     * @param to The index after the last byte read
+     * @return The index of the first byte that is not part of a complete line
+     * @throws IOException Thrown if the buffer fills up and the responses cannot be written
+     */
+    int convertLines(byte[] in, int from, int to) throws IOException {
+        int start = from;
+        for(int i = from; i < to; i++) {
+            if(in[i] == '\n') {
+                convert(in, start, i);
+                start = i + 1;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Converts one request.
+     *
+     * @param in The requests
+     * @param from The index of the first byte of the request
+     * @param to The index after the last byte of the request, not including the newline
+     * @throws IOException Thrown if the buffer fills up and the responses cannot be written
+     */
+    void convert(byte[] in, int from, int to) throws IOException {
+        if(buffer.length - length < MAX_RESPONSE) {
+            flush();
+        }
+        int result = ElbonianCodec.decode(in, from, to);
+        if(ElbonianArabicConverter.isValid(result)) {
+            putNumber(result);
+            buffer[length++] = ' ';
+            length += ElbonianCodec.encode(result, buffer, length);
+        } else {
+            putAscii("ERR ");
+            putAscii(ElbonianArabicConverter.failureReason(result).name());
+            buffer[length++] = ' ';
+            putNumber(ElbonianArabicConverter.failureOffset(result) - from);
+        }
+        buffer[length++] = '\n';
+    }
+
+    /**
+     * Answers a request that is too long to convert.
+     *
+     * @param limit The longest request the caller can read
+     * @throws IOException Thrown if the buffer fills up and the responses cannot be written
+     */
+    void tooLong(int limit) throws IOException {
+        if(buffer.length - length < MAX_RESPONSE) {
+            flush();
+        }
+        putAscii("ERR TOO_LONG ");
+        putNumber(limit);
+        buffer[length++] = '\n';
+    }
+
+    /**
+     * Writes the buffered responses.
+     *
+     * @throws IOException Thrown if the responses cannot be written
+     */
+    void flush() throws IOException {
+        if(length > 0) {
+            out.write(buffer, 0, length);
+            length = 0;
+        }
+        out.flush();
+    }
+
+    // Appends the digits of a non-negative number.
+    private void putNumber(int n) {
+        int divisor = 1;
+        while(divisor <= n / 10) {
+            divisor *= 10;
+        }
+        for(; divisor > 0; divisor /= 10) {
+            buffer[length++] = (byte) ('0' + n / divisor % 10);
+        }
+    }
+
+    // Appends an ASCII string.
+    private void putAscii(String s) {
+        for(int i = 0; i < s.length(); i++) {
+            buffer[length++] = (byte) s.charAt(i);
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package converter.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A client that loads a ConversionServer to measure its throughput. Each connection sends a batch of
+ * pipelined requests, waits for all of the responses, and repeats until the time is up. A batch is sent
+ * at most MAX_OUTSTANDING lines at a time, so the requests and responses in flight always fit in the
+ * socket buffers and neither side can block the other.
+ *
+ * @version 3/18/17
+ */
+public final class LoadGenerator {
+
+    // The seed for the requests, so runs can be compared.
+    private static final long SEED = 3733;
+
+    // The most requests sent before their responses are read.
+    private static final int MAX_OUTSTANDING = 256;
+
+    private LoadGenerator() {
+    }
+
+    /**
+     * Runs a load test from the command line and prints the number of requests per second.
+     *
+     * @param args The host and port, and optionally the number of connections, the number of seconds and
+     * the number of requests in each pipelined batch
+     * @throws Exception Thrown if a connection fails
+     */
+    public static void main(String[] args) throws Exception {
+        if(args.length < 2) {
+            System.err.println("usage: LoadGenerator <host> <port> [connections] [seconds] [batch]");
+            System.exit(2);
+        }
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int batch = args.length > 4 ? Integer.parseInt(args[4]) : 64;
+        double rate = run(args[0], Integer.parseInt(args[1]), connections, seconds * 1000L, batch);
+        System.out.printf("%,.0f requests/second%n", rate);
+    }
+
+    /**
+     * Loads a server with a mix of Arabic, Elbonian and malformed requests.
+     *
+     * @param host The server's host
+     * @param port The server's TCP port
+     * @param connections The number of connections to open
+     * @param millis How long to run for
+     * @param batch The number of requests to send before waiting for responses
+     * @return The number of requests answered per second
+     * @throws Exception Thrown if a connection fails
+     */
+    public static double run(String host, int port, int connections, long millis, int batch) throws Exception {
+        byte[] requests = requests(batch);
+        int[] lineStarts = lineStarts(requests, batch);
+        LongAdder answered = new LongAdder();
+        long deadline = System.currentTimeMillis() + millis;
+        List<Thread> threads = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+        long start = System.nanoTime();
+        for(int i = 0; i < connections; i++) {
+            Thread thread = new Thread(() -> {
+                try(Socket socket = new Socket(host, port)) {
+                    socket.setTcpNoDelay(true);
+                    OutputStream out = socket.getOutputStream();
+                    InputStream in = socket.getInputStream();
+                    byte[] responses = new byte[64 * 1024];
+                    while(System.currentTimeMillis() < deadline) {
+                        for(int sent = 0; sent < batch; ) {
+                            int count = Math.min(MAX_OUTSTANDING, batch - sent);
+                            out.write(requests, lineStarts[sent], lineStarts[sent + count] - lineStarts[sent]);
+                            out.flush();
+                            for(int lines = 0; lines < count; ) {
+                                int n = in.read(responses);
+                                if(n < 0) {
+                                    throw new IOException("server closed the connection");
+                                }
+                                for(int j = 0; j < n; j++) {
+                                    if(responses[j] == '\n') {
+                                        lines++;
+                                    }
+                                }
+                            }
+                            sent += count;
+                        }
+                        answered.add(batch);
+                    }
+                } catch(Exception e) {
+                    synchronized(failures) {
+                        failures.add(e);
+                    }
+                }
+            }, "load-generator-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        if(!failures.isEmpty()) {
+            throw failures.get(0);
+        }
+        return answered.sum() * 1e9 / (System.nanoTime() - start);
+    }
+
+    // Returns the index of the first byte of each request and the end of the last one.
+    private static int[] lineStarts(byte[] requests, int batch) {
+        int[] starts = new int[batch + 1];
+        int line = 1;
+        for(int i = 0; i < requests.length; i++) {
+            if(requests[i] == '\n') {
+                starts[line++] = i + 1;
+            }
+        }
+        return starts;
+    }
+
+    // Builds one batch of requests: 70% valid numbers, half Arabic and half Elbonian, and 30% malformed.
+    private static byte[] requests(int batch) {
+        Random random = new Random(SEED);
+        String[] elbonian = {"MMCXX", "NnDdLlVv", "CCXII", "MMMCCv", "dLv", "I"};
+        String[] malformed = {"MMC XX", "MMn", "2.3", "0", "10000", "MMXCX", "abc", "#1"};
+        StringBuilder requests = new StringBuilder();
+        for(int i = 0; i < batch; i++) {
+            double kind = random.nextDouble();
+            if(kind < 0.35) {
+                requests.append(1 + random.nextInt(9999));
+            } else if(kind < 0.7) {
+                requests.append(elbonian[random.nextInt(elbonian.length)]);
+            } else {
+                requests.append(malformed[random.nextInt(malformed.length)]);
+            }
+            requests.append('\n');
+        }
+        return requests.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+}
@@ -0,0 +1,246 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ElbonianArabicConverter;
+import converter.ElbonianFormat;
+import converter.ElbonianNumber;
+import converter.ElbonianRange;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Test cases for the number of bytes the converter allocates. Each case runs its loop once to load and
+ * initialize every class it uses, then counts the bytes the test thread allocates while running it again.
+ */
+public class AllocationTests {
+
+    // The most bytes one converter may take: the object header, the value and the numeral reference.
+    private static final long CONVERTER_BUDGET = 32;
+
+    // The most bytes one rejection may take, for an exception without a stack trace (72 on a 64 bit JVM
+    // with compressed pointers).
+    private static final long REJECTION_BUDGET = 80;
+
+    // The most bytes a range may take for its view and spliterator, however many numerals it passes.
+    private static final long RANGE_BUDGET = 256;
+
+    // How many times each loop is run while it is measured.
+    private static final int ROUNDS = 5;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private static String[] arabic;
+    private static String[] elbonian;
+    private static String[] malformed;
+
+    @BeforeClass
+    public static void setUp() throws MalformedNumberException, ValueOutOfBoundsException {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        arabic = new String[9999];
+        elbonian = new String[9999];
+        for(int i = 0; i < arabic.length; i++) {
+            arabic[i] = Integer.toString(i + 1);
+            elbonian[i] = new ElbonianArabicConverter(arabic[i]).toElbonian();
+        }
+        malformed = malformed();
+    }
+
+    // Builds inputs that are rejected for every reason from a fixed seed.
+    private static String[] malformed() {
+        Random random = new Random(3733);
+        List<String> numbers = new ArrayList<>();
+        for(int i = 0; i < 9000; i++) {
+            String valid = elbonian[random.nextInt(elbonian.length)];
+            switch(i % 9) {
+                case 0:
+                    numbers.add(i % 2 == 0 ? "" : "   ");
+                    break;
+                case 1:
+                    numbers.add(valid + " I");
+                    break;
+                case 2:
+                    numbers.add(valid + "#");
+                    break;
+                case 3:
+                    numbers.add(valid + random.nextInt(10));
+                    break;
+                case 4:
+                    numbers.add(Integer.toString(10000 + random.nextInt(100000)));
+                    break;
+                case 5:
+                    numbers.add(random.nextInt(9999) + "." + random.nextInt(100));
+                    break;
+                case 6:
+                    numbers.add(valid.indexOf('M') >= 0 ? valid + "n" : "MMn");
+                    break;
+                case 7:
+                    numbers.add(new StringBuilder(valid).reverse().append("IIII").toString());
+                    break;
+                default:
+                    numbers.add(i % 2 == 0 ? "0" : "-" + random.nextInt(9999));
+                    break;
+            }
+        }
+        return numbers.toArray(new String[0]);
+    }
+
+    /**
+     * The code being measured.
+     */
+    private interface Loop {
+        void run() throws Exception;
+    }
+
+    // Returns the bytes allocated by one run of a loop, after a first run that is not counted.
+    private static long allocated(Loop loop) throws Exception {
+        loop.run();
+        long id = Thread.currentThread().getId();
+
+        // Measuring an empty region gives the cost of the measurement itself.
+        long before = threads.getThreadAllocatedBytes(id);
+        long overhead = threads.getThreadAllocatedBytes(id) - before;
+
+        long bytes = Long.MAX_VALUE;
+        for(int round = 0; round < ROUNDS; round++) {
+            before = threads.getThreadAllocatedBytes(id);
+            loop.run();
+            bytes = Math.min(bytes, threads.getThreadAllocatedBytes(id) - before - overhead);
+        }
+        return bytes;
+    }
+
+    // Fails with the number of bytes if it is over the budget.
+    private static void assertWithin(long bytes, long budget) {
+        assertTrue(bytes + " bytes allocated, budget is " + budget, bytes <= budget);
+    }
+
+    @Test
+    public void RepeatedToArabicAllocatesNothing() throws Exception {
+        ElbonianArabicConverter[] converters = new ElbonianArabicConverter[arabic.length * 2];
+        for(int i = 0; i < arabic.length; i++) {
+            converters[2 * i] = new ElbonianArabicConverter(arabic[i]);
+            converters[2 * i + 1] = new ElbonianArabicConverter(elbonian[i]);
+        }
+        long[] sum = new long[1];
+        assertWithin(allocated(() -> {
+            for(ElbonianArabicConverter converter : converters) {
+                sum[0] += converter.toArabic();
+            }
+        }), 0);
+    }
+
+    @Test
+    public void RepeatedToElbonianAllocatesNothing() throws Exception {
+        ElbonianArabicConverter[] converters = new ElbonianArabicConverter[arabic.length * 2];
+        for(int i = 0; i < arabic.length; i++) {
+            converters[2 * i] = new ElbonianArabicConverter(arabic[i]);
+            converters[2 * i + 1] = new ElbonianArabicConverter(elbonian[i]);
+        }
+        long[] sum = new long[1];
+        assertWithin(allocated(() -> {
+            for(ElbonianArabicConverter converter : converters) {
+                sum[0] += converter.toElbonian().length();
+            }
+        }), 0);
+    }
+
+    @Test
+    public void ConstructionWithinBudget() throws Exception {
+        ElbonianArabicConverter[] converters = new ElbonianArabicConverter[arabic.length];
+        assertWithin(allocated(() -> {
+            for(int i = 0; i < arabic.length; i++) {
+                converters[i] = new ElbonianArabicConverter(arabic[i]);
+            }
+        }), CONVERTER_BUDGET * arabic.length);
+        assertWithin(allocated(() -> {
+            for(int i = 0; i < elbonian.length; i++) {
+                converters[i] = new ElbonianArabicConverter(elbonian[i]);
+            }
+        }), CONVERTER_BUDGET * elbonian.length);
+    }
+
+    @Test
+    public void RejectionWithinBudget() throws Exception {
+        int[] rejected = new int[1];
+        assertWithin(allocated(() -> {
+            for(String number : malformed) {
+                try {
+                    new ElbonianArabicConverter(number, false);
+                } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+                    rejected[0]++;
+                }
+            }
+        }), REJECTION_BUDGET * malformed.length);
+        assertEquals(rejected[0], malformed.length * (ROUNDS + 1));
+    }
+
+    @Test
+    public void TryParseAllocatesNothing() throws Exception {
+        long[] sum = new long[1];
+        assertWithin(allocated(() -> {
+            for(String number : malformed) {
+                sum[0] += ElbonianArabicConverter.tryParse(number);
+            }
+            for(int i = 0; i < arabic.length; i++) {
+                sum[0] += ElbonianArabicConverter.tryParse(arabic[i]) + ElbonianArabicConverter.tryParse(elbonian[i]);
+            }
+        }), 0);
+    }
+
+    @Test
+    public void BatchAndValueTypeAllocateNothing() throws Exception {
+        int[] values = new int[arabic.length];
+        byte[] status = new byte[arabic.length];
+        String[] numerals = new String[arabic.length];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = i + 1;
+        }
+        long[] sum = new long[1];
+        assertWithin(allocated(() -> {
+            BatchConverter.toArabic(elbonian, values, status);
+            BatchConverter.toElbonian(values, numerals);
+            for(int value : values) {
+                sum[0] += ElbonianNumber.valueOf(value).toElbonian().length();
+            }
+        }), 0);
+    }
+
+    @Test
+    public void FormatParseAllocatesNothing() throws Exception {
+        ElbonianFormat format = new ElbonianFormat();
+        ParsePosition pos = new ParsePosition(0);
+        long[] sum = new long[1];
+        assertWithin(allocated(() -> {
+            for(String numeral : elbonian) {
+                pos.setIndex(0);
+                pos.setErrorIndex(-1);
+                sum[0] += format.parse(numeral, pos).intValue();
+            }
+        }), 0);
+    }
+
+    @Test
+    public void RangeViewsWithinBudget() throws Exception {
+        ElbonianRange range = ElbonianRange.of(1, 9999);
+        long[] sum = new long[1];
+        assertWithin(allocated(() -> range.forEachView(view -> sum[0] += view.length())), RANGE_BUDGET);
+    }
+
+}
@@ -0,0 +1,68 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.FailureReason;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Test cases for the BatchConverter class.
+ */
+public class BatchConverterTests {
+
+    @Test
+    public void ArabicToElbonianStrings() {
+        int[] in = {1, 2120, 0, 9999, 10000};
+        String[] out = new String[in.length];
+        assertEquals(BatchConverter.toElbonian(in, out), 2);
+        assertEquals(out[0], "I");
+        assertEquals(out[1], "MMCXX");
+        assertNull(out[2]);
+        assertEquals(out[3], "NnDdLlVv");
+        assertNull(out[4]);
+    }
+
+    @Test
+    public void ArabicToElbonianChars() {
+        int[] in = {1354, -1, 2};
+        char[] out = new char[in.length * 16];
+        int[] offsets = new int[in.length + 1];
+        assertEquals(BatchConverter.toElbonian(in, out, offsets), 1);
+        assertEquals(new String(out, offsets[0], offsets[1] - offsets[0]), "MCCCLv");
+        assertEquals(offsets[2], offsets[1]);
+        assertEquals(new String(out, offsets[2], offsets[3] - offsets[2]), "II");
+    }
+
+    @Test
+    public void ArabicToElbonianBuilder() {
+        int[] in = {312, 4};
+        StringBuilder out = new StringBuilder("> ");
+        int[] offsets = new int[in.length + 1];
+        assertEquals(BatchConverter.toElbonian(in, out, offsets), 0);
+        assertEquals(out.substring(offsets[0], offsets[1]), "CCCXII");
+        assertEquals(out.substring(offsets[1], offsets[2]), "v");
+    }
+
+    @Test
+    public void ElbonianToArabic() {
+        CharSequence[] in = {"MMCXX", " 212 ", "MMn", "2.3", new StringBuilder("NnDdLlVv")};
+        int[] out = new int[in.length];
+        byte[] status = new byte[in.length];
+        assertEquals(BatchConverter.toArabic(in, out, status), 2);
+        assertEquals(out[0], 2120);
+        assertEquals(out[1], 212);
+        assertEquals(status[2], FailureReason.LETTER_RULE.ordinal() + 1);
+        assertEquals(ElbonianArabicConverter.failureOffset(out[2]), 2);
+        assertEquals(status[3], FailureReason.DECIMAL.ordinal() + 1);
+        assertEquals(status[4], BatchConverter.OK);
+        assertEquals(out[4], 9999);
+    }
+
+    @Test (expected = IllegalArgumentException.class)
+    public void OutputTooShort() {
+        BatchConverter.toElbonian(new int[] {1, 2}, new String[1]);
+    }
+}
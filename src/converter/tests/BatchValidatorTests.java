@@ -0,0 +1,102 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.BatchValidator;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.FailureReason;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the BatchValidator class.
+ */
+public class BatchValidatorTests {
+
+    // Inputs that are rejected for every reason, or are valid only with trimming.
+    private static final String[] EDGE_CASES = {"", "   ", "0", "0000", "0012", "00012", "9999", "10000", "-5",
+            "+5", "1.0", " MMXX ", "M MXX", "\tII\n", "MM#", "MX1", "1MX", "MMn", "dC", "XlX", "IIII", "VV",
+            "abc", "NnDdLlVv", "nN", "é", "99999999999", "0.9999", "Nn", "vI"};
+
+    // Packs numbers into ASCII bytes and offsets and checks that both screens agree with BatchConverter.
+    private static void assertSameAsBatchConverter(String[] numbers) {
+        int[] offsets = new int[numbers.length + 1];
+        StringBuilder text = new StringBuilder();
+        for(int i = 0; i < numbers.length; i++) {
+            offsets[i] = text.length();
+            text.append(numbers[i]);
+        }
+        offsets[numbers.length] = text.length();
+        byte[] bytes = text.toString().getBytes(StandardCharsets.ISO_8859_1);
+
+        // The batch results hold offsets into the packed text, so the expected results are parsed there too.
+        int[] expected = new int[numbers.length];
+        byte[] expectedStatus = new byte[numbers.length];
+        int expectedFailures = 0;
+        for(int i = 0; i < numbers.length; i++) {
+            expected[i] = ElbonianArabicConverter.tryParse(text, offsets[i], offsets[i + 1]);
+            if(ElbonianArabicConverter.isValid(expected[i])) {
+                expectedStatus[i] = BatchConverter.OK;
+            } else {
+                expectedStatus[i] = (byte) (ElbonianArabicConverter.failureReason(expected[i]).ordinal() + 1);
+                expectedFailures++;
+            }
+        }
+
+        int[] out = new int[numbers.length];
+        byte[] status = new byte[numbers.length];
+        assertEquals(BatchValidator.toArabic(bytes, offsets, out, status), expectedFailures);
+        assertArrayEquals(out, expected);
+        assertArrayEquals(status, expectedStatus);
+
+        out = new int[numbers.length];
+        status = new byte[numbers.length];
+        assertEquals(BatchValidator.toArabicScalar(bytes, offsets, out, status), expectedFailures);
+        assertArrayEquals(out, expected);
+        assertArrayEquals(status, expectedStatus);
+    }
+
+    @Test
+    public void AllValuesBothForms() {
+        List<String> numbers = new ArrayList<>();
+        String[] elbonian = new String[9999];
+        int[] values = new int[9999];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = i + 1;
+        }
+        BatchConverter.toElbonian(values, elbonian);
+        for(int i = 0; i < values.length; i++) {
+            numbers.add(Integer.toString(values[i]));
+            numbers.add(elbonian[i]);
+        }
+        assertSameAsBatchConverter(numbers.toArray(new String[0]));
+    }
+
+    @Test
+    public void EdgeCases() {
+        assertSameAsBatchConverter(EDGE_CASES);
+    }
+
+    @Test
+    public void FailureOffsetsAreIntoText() {
+        byte[] text = "MMXX MMn".getBytes(StandardCharsets.US_ASCII);
+        int[] offsets = {0, 4, 8};
+        int[] out = new int[2];
+        byte[] status = new byte[2];
+        assertEquals(BatchValidator.toArabic(text, offsets, out, status), 1);
+        assertEquals(out[0], 2020);
+        assertEquals(ElbonianArabicConverter.failureReason(out[1]), FailureReason.LETTER_RULE);
+        assertEquals(ElbonianArabicConverter.failureOffset(out[1]), 7);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void OutputTooSmall() {
+        BatchValidator.toArabic(new byte[4], new int[]{0, 2, 4}, new int[1], new byte[2]);
+    }
+
+}
@@ -0,0 +1,207 @@
+package converter.tests;
+
+import converter.ConversionProcessor;
+import converter.ConversionResult;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.FailureReason;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Flow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ConversionProcessor class.
+ */
+public class ConversionProcessorTests {
+
+    /**
+     * Publishes a list of chunks on the thread that requests them and counts the requests.
+     */
+    private static final class ChunkPublisher implements Flow.Publisher<CharSequence> {
+
+        private final List<String> chunks;
+        private int next;
+        private int requests;
+
+        ChunkPublisher(List<String> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super CharSequence> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requests++;
+                    for(long i = 0; i < n && next < chunks.size(); i++) {
+                        subscriber.onNext(chunks.get(next++));
+                    }
+                    if(next == chunks.size()) {
+                        next++;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    next = chunks.size() + 1;
+                }
+            });
+        }
+
+    }
+
+    /**
+     * Collects results, requesting a fixed number at a time once the previous ones have arrived, or only
+     * what the test requests if the batch is 0.
+     */
+    private static final class Collector implements Flow.Subscriber<ConversionResult> {
+
+        private final long batch;
+        private final List<ConversionResult> results = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private long outstanding;
+        private boolean complete;
+        private Throwable error;
+
+        Collector(long batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if(batch > 0) {
+                outstanding = batch;
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onNext(ConversionResult item) {
+            assertTrue(batch == 0 || outstanding > 0);
+            results.add(item);
+            if(batch > 0 && --outstanding == 0) {
+                outstanding = batch;
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+        }
+
+    }
+
+    // Runs the chunks through a processor and returns the collector.
+    private static Collector convert(List<String> chunks, long batch) {
+        ConversionProcessor processor = new ConversionProcessor();
+        Collector collector = new Collector(batch);
+        processor.subscribe(collector);
+        new ChunkPublisher(chunks).subscribe(processor);
+        return collector;
+    }
+
+    @Test
+    public void NumbersSplitAcrossChunks() {
+        Collector collector = convert(Arrays.asList("MM", "CXX\n12", "34\n  M", "Mn\n", "", "0"), 1);
+        assertTrue(collector.complete);
+        assertEquals(collector.results.size(), 4);
+        assertEquals(collector.results.get(0).getValue(), 2120);
+        assertEquals(collector.results.get(1).toElbonian(), "MCCXXXv");
+        assertEquals(collector.results.get(2).getReason(), FailureReason.LETTER_RULE);
+        assertEquals(collector.results.get(2).getOffset(), 4);
+        assertEquals(collector.results.get(3).getLine(), 4);
+        assertEquals(collector.results.get(3).getReason(), FailureReason.ZERO);
+        assertNull(collector.results.get(3).toElbonian());
+    }
+
+    @Test
+    public void MatchesTryParse() {
+        // Random lines of characters from every class, split into random chunks.
+        Random random = new Random(3733);
+        String alphabet = "NnMDdCLlXVvI0123456789 \t.+-#a";
+        List<String> lines = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        for(int i = 0; i < 20000; i++) {
+            StringBuilder line = new StringBuilder();
+            int length = random.nextInt(12);
+            for(int j = 0; j < length; j++) {
+                line.append(random.nextInt(3) == 0 ? alphabet.charAt(random.nextInt(alphabet.length()))
+                        : alphabet.charAt(random.nextInt(12)));
+            }
+            lines.add(line.toString());
+            text.append(line).append('\n');
+        }
+        List<String> chunks = new ArrayList<>();
+        for(int i = 0; i < text.length(); ) {
+            int end = Math.min(text.length(), i + random.nextInt(20));
+            chunks.add(text.substring(i, end));
+            i = end;
+        }
+
+        Collector collector = convert(chunks, 7);
+        assertTrue(collector.complete);
+        assertEquals(collector.results.size(), lines.size());
+        for(int i = 0; i < lines.size(); i++) {
+            int expected = ElbonianArabicConverter.tryParse(lines.get(i));
+            ConversionResult result = collector.results.get(i);
+            assertEquals(result.getLine(), i + 1);
+            if(ElbonianArabicConverter.isValid(expected)) {
+                assertEquals(result.getValue(), expected);
+            } else {
+                assertFalse(result.isValid());
+                assertEquals(result.getReason(), ElbonianArabicConverter.failureReason(expected));
+                assertEquals(result.getOffset(), ElbonianArabicConverter.failureOffset(expected));
+            }
+        }
+    }
+
+    @Test
+    public void RequestsChunksOnlyOnDemand() {
+        ConversionProcessor processor = new ConversionProcessor();
+        ChunkPublisher publisher = new ChunkPublisher(Arrays.asList("1\n2\n3\n", "4\n5\n"));
+        Collector collector = new Collector(0);
+        processor.subscribe(collector);
+        publisher.subscribe(processor);
+        assertEquals(publisher.requests, 0);
+
+        collector.subscription.request(2);
+        assertEquals(collector.results.size(), 2);
+        assertEquals(publisher.requests, 1);
+
+        // The rest of the first chunk is enough for the next result.
+        collector.subscription.request(1);
+        assertEquals(collector.results.size(), 3);
+        assertEquals(publisher.requests, 1);
+
+        collector.subscription.request(10);
+        assertEquals(collector.results.size(), 5);
+        assertTrue(collector.complete);
+    }
+
+    @Test
+    public void InvalidRequestIsAnError() {
+        ConversionProcessor processor = new ConversionProcessor();
+        Collector collector = new Collector(0);
+        processor.subscribe(collector);
+        new ChunkPublisher(Arrays.asList("1\n")).subscribe(processor);
+        collector.subscription.request(0);
+        assertTrue(collector.error instanceof IllegalArgumentException);
+    }
+
+}
@@ -0,0 +1,88 @@
+package converter.tests;
+
+import converter.server.ConversionServer;
+import converter.server.LoadGenerator;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ConversionServer class.
+ */
+public class ConversionServerTests {
+
+    @Test
+    public void PipelinedRequests() throws IOException {
+        try(ConversionServer server = new ConversionServer(0);
+            Socket socket = new Socket("localhost", server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write("MMCXX\n 1354 \r\nMMn\n".getBytes(StandardCharsets.US_ASCII));
+            out.write("0\n9999\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            assertEquals(in.readLine(), "2120 MMCXX");
+            assertEquals(in.readLine(), "1354 MCCCLv");
+            assertEquals(in.readLine(), "ERR LETTER_RULE 2");
+            assertEquals(in.readLine(), "ERR ZERO 0");
+            assertEquals(in.readLine(), "9999 NnDdLlVv");
+        }
+    }
+
+    @Test
+    public void Http() throws IOException {
+        try(ConversionServer server = new ConversionServer(0, 0)) {
+            HttpURLConnection get = (HttpURLConnection) new URL("http://localhost:" + server.getHttpPort()
+                    + "/convert?n=%20CCXII").openConnection();
+            BufferedReader in = new BufferedReader(new InputStreamReader(get.getInputStream(), StandardCharsets.US_ASCII));
+            assertEquals(in.readLine(), "212 CCXII");
+
+            HttpURLConnection post = (HttpURLConnection) new URL("http://localhost:" + server.getHttpPort()
+                    + "/convert").openConnection();
+            post.setDoOutput(true);
+            post.getOutputStream().write("2\nvv".getBytes(StandardCharsets.US_ASCII));
+            in = new BufferedReader(new InputStreamReader(post.getInputStream(), StandardCharsets.US_ASCII));
+            assertEquals(in.readLine(), "2 II");
+            assertEquals(in.readLine(), "ERR ORDERING 1");
+        }
+    }
+
+    @Test
+    public void LongLineGetsOneResponse() throws IOException {
+        try(ConversionServer server = new ConversionServer(0);
+            Socket socket = new Socket("localhost", server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            byte[] line = new byte[200 * 1024];
+            java.util.Arrays.fill(line, (byte) 'I');
+            out.write(line);
+            out.write("\nMMCXX\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            assertEquals(in.readLine(), "ERR TOO_LONG 65536");
+            assertEquals(in.readLine(), "2120 MMCXX");
+        }
+    }
+
+    @Test
+    public void LoadGenerator() throws Exception {
+        try(ConversionServer server = new ConversionServer(0)) {
+            assertTrue(LoadGenerator.run("localhost", server.getPort(), 2, 200, 32) > 0);
+        }
+    }
+
+    @Test
+    public void LoadGeneratorLargeBatch() throws Exception {
+        try(ConversionServer server = new ConversionServer(0)) {
+            assertTrue(LoadGenerator.run("localhost", server.getPort(), 1, 200, 200000) > 0);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package converter.tests;
+
+import converter.ConversionService;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ConversionService class.
+ */
+public class ConversionServiceTests {
+
+    // Returns the cause of a future's failure.
+    private static Throwable failure(CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get(10, TimeUnit.SECONDS);
+        } catch(ExecutionException e) {
+            return e.getCause();
+        } catch(java.util.concurrent.TimeoutException e) {
+            throw new AssertionError("future did not complete");
+        }
+        throw new AssertionError("future did not fail");
+    }
+
+    @Test
+    public void ConvertsBothWays() throws Exception {
+        try(ConversionService service = new ConversionService()) {
+            assertEquals(service.toElbonianAsync(2120).get(10, TimeUnit.SECONDS), "MMCXX");
+            assertEquals(service.toArabicAsync(" MMCXX ").get(10, TimeUnit.SECONDS), Integer.valueOf(2120));
+            assertEquals(service.toArabicAsync("9999").get(10, TimeUnit.SECONDS), Integer.valueOf(9999));
+        }
+    }
+
+    @Test
+    public void InvalidNumbersFail() throws Exception {
+        try(ConversionService service = new ConversionService()) {
+            Throwable error = failure(service.toArabicAsync("MMn"));
+            assertTrue(error instanceof MalformedNumberException);
+            assertEquals(((MalformedNumberException) error).getReason(), FailureReason.LETTER_RULE);
+            assertTrue(failure(service.toArabicAsync("10000")) instanceof ValueOutOfBoundsException);
+            assertTrue(failure(service.toElbonianAsync(0)) instanceof ValueOutOfBoundsException);
+        }
+    }
+
+    @Test
+    public void BatchesManyThreads() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try(ConversionService service = new ConversionService(2, 1024, 64, 1, TimeUnit.MILLISECONDS)) {
+            List<Future<?>> results = new ArrayList<>();
+            for(int t = 0; t < 8; t++) {
+                int offset = t;
+                results.add(callers.submit(() -> {
+                    List<CompletableFuture<Integer>> futures = new ArrayList<>();
+                    List<String> numerals = new ArrayList<>();
+                    for(int i = 0; i < 5000; i++) {
+                        int value = 1 + (i * 8 + offset) % 9999;
+                        String numeral = service.toElbonianAsync(value).join();
+                        numerals.add(numeral);
+                        futures.add(service.toArabicAsync(numeral));
+                    }
+                    for(int i = 0; i < futures.size(); i++) {
+                        int value = 1 + (i * 8 + offset) % 9999;
+                        assertEquals(futures.get(i).join(), Integer.valueOf(value));
+                        assertEquals(numerals.get(i), new ElbonianArabicConverter(Integer.toString(value)).toElbonian());
+                    }
+                    return null;
+                }));
+            }
+            for(Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+            assertEquals(service.getConvertedCount(), 80000);
+            assertTrue(service.getBatchCount() < service.getConvertedCount());
+            assertTrue(service.getBatchCount() >= service.getConvertedCount() / 64);
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    public void FailingRequestDoesNotStall() throws Exception {
+        CharSequence broken = new CharSequence() {
+            @Override
+            public int length() {
+                return 5;
+            }
+
+            @Override
+            public char charAt(int index) {
+                throw new IllegalStateException("unreadable");
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                throw new IllegalStateException("unreadable");
+            }
+        };
+        try(ConversionService service = new ConversionService(1, 16, 4, 0, TimeUnit.MILLISECONDS)) {
+            CompletableFuture<Integer> failed = service.toArabicAsync(broken);
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for(int i = 0; i < 100; i++) {
+                futures.add(service.toArabicAsync("MMCXX"));
+            }
+            assertTrue(failure(failed) instanceof IllegalStateException);
+            for(CompletableFuture<Integer> future : futures) {
+                assertEquals(future.get(10, TimeUnit.SECONDS), Integer.valueOf(2120));
+            }
+        }
+    }
+
+    // Returns a number whose first character is only read once the latch is released.
+    private static CharSequence held(String number, CountDownLatch latch) {
+        return new CharSequence() {
+            @Override
+            public int length() {
+                return number.length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                try {
+                    latch.await();
+                } catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return number.charAt(index);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return number.subSequence(start, end);
+            }
+        };
+    }
+
+    @Test
+    public void StageOnWorkerDoesNotDeadlock() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        try(ConversionService service = new ConversionService(1, 1, 1, 0, TimeUnit.MILLISECONDS)) {
+            // The stage runs on the worker and asks for more conversions than its queue holds.
+            CompletableFuture<Integer> sum = service.toArabicAsync(held("MMCXX", latch)).thenApply(value -> {
+                List<CompletableFuture<Integer>> futures = new ArrayList<>();
+                for(int i = 0; i < 10; i++) {
+                    futures.add(service.toArabicAsync("I"));
+                }
+                int total = value;
+                for(CompletableFuture<Integer> future : futures) {
+                    total += future.join();
+                }
+                return total;
+            });
+            latch.countDown();
+            assertEquals(sum.get(10, TimeUnit.SECONDS), Integer.valueOf(2130));
+        }
+    }
+
+    @Test
+    public void CloseOnWorkerFails() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        try(ConversionService service = new ConversionService()) {
+            CompletableFuture<Void> closing = service.toArabicAsync(held("MMCXX", latch)).thenRun(service::close);
+            latch.countDown();
+            assertTrue(failure(closing) instanceof IllegalStateException);
+            assertEquals(service.toArabicAsync("9").get(10, TimeUnit.SECONDS), Integer.valueOf(9));
+        }
+    }
+
+    @Test
+    public void CloseRacesWithCallers() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            for(int round = 0; round < 20; round++) {
+                ConversionService service = new ConversionService(2, 4, 2, 0, TimeUnit.MILLISECONDS);
+                List<Future<List<CompletableFuture<Integer>>>> results = new ArrayList<>();
+                for(int t = 0; t < 4; t++) {
+                    results.add(callers.submit(() -> {
+                        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+                        for(int i = 0; i < 500; i++) {
+                            futures.add(service.toArabicAsync("MMCXX"));
+                        }
+                        return futures;
+                    }));
+                }
+                service.close();
+                for(Future<List<CompletableFuture<Integer>>> result : results) {
+                    for(CompletableFuture<Integer> future : result.get(10, TimeUnit.SECONDS)) {
+                        // Every request is either converted or rejected, never left waiting.
+                        try {
+                            assertEquals(future.get(10, TimeUnit.SECONDS), Integer.valueOf(2120));
+                        } catch(ExecutionException e) {
+                            assertTrue(e.getCause() instanceof RejectedExecutionException);
+                        }
+                    }
+                }
+            }
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void NullNumber() {
+        try(ConversionService service = new ConversionService()) {
+            service.toArabicAsync(null);
+        }
+    }
+
+    @Test
+    public void CloseCompletesQueuedRequests() throws Exception {
+        ConversionService service = new ConversionService(1, 100000, 16, 0, TimeUnit.MILLISECONDS);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for(int i = 0; i < 50000; i++) {
+            futures.add(service.toArabicAsync("MMCXX"));
+        }
+        service.close();
+        for(CompletableFuture<Integer> future : futures) {
+            assertTrue(future.isDone());
+            assertEquals(future.join(), Integer.valueOf(2120));
+        }
+        assertTrue(failure(service.toArabicAsync("MMCXX")) instanceof RejectedExecutionException);
+    }
+
+}
@@ -0,0 +1,201 @@
+package converter.tests;
+
+import converter.CacheStats;
+import converter.ConverterCache;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ConverterCache class.
+ */
+public class ConverterCacheTests {
+
+    @Test
+    public void SameStringSameConverter() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(64);
+        ElbonianArabicConverter first = cache.get("MMCXX");
+        assertSame(cache.get("MMCXX"), first);
+        assertEquals(first.toArabic(), 2120);
+        CacheStats stats = cache.stats();
+        assertEquals(stats.getHits(), 1);
+        assertEquals(stats.getMisses(), 1);
+        assertEquals(stats.getSize(), 1);
+        assertEquals(stats.getHitRate(), 0.5, 0);
+    }
+
+    @Test
+    public void UntrimmedStringCachedSeparately() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(64);
+        ElbonianArabicConverter trimmed = cache.get("99");
+        ElbonianArabicConverter padded = cache.get(" 99 ");
+        assertNotSame(padded, trimmed);
+        assertEquals(padded.toArabic(), 99);
+        assertEquals(cache.stats().getMisses(), 2);
+    }
+
+    @Test
+    public void RejectionIsCached() throws ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(64);
+        for(int i = 0; i < 3; i++) {
+            try {
+                cache.get("MMn");
+            } catch(MalformedNumberException e) {
+                assertEquals(e.getReason(), FailureReason.LETTER_RULE);
+                assertEquals(e.getOffset(), 2);
+            }
+        }
+        assertEquals(cache.stats().getMisses(), 1);
+        assertEquals(cache.stats().getHits(), 2);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void OutOfBoundsIsCached() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(64);
+        try {
+            cache.get("10000");
+        } catch(ValueOutOfBoundsException e) {
+            assertEquals(e.getReason(), FailureReason.OUT_OF_BOUNDS);
+        }
+        cache.get("10000");
+    }
+
+    @Test
+    public void SizeIsBounded() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConverterCache cache = new ConverterCache(256);
+        for(int i = 1; i <= 9999; i++) {
+            assertEquals(cache.get(Integer.toString(i)).toArabic(), i);
+        }
+        CacheStats stats = cache.stats();
+        assertEquals(stats.getCapacity(), 256);
+        assertTrue(stats.getSize() <= 256);
+        assertEquals(stats.getSize() + stats.getEvictions(), 9999);
+        cache.clear();
+        assertEquals(cache.stats().getSize(), 0);
+    }
+
+    @Test
+    public void ConcurrentLookups() throws Exception {
+        ConverterCache cache = new ConverterCache(4096);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for(int t = 0; t < 4; t++) {
+                tasks.add(() -> {
+                    int sum = 0;
+                    for(int round = 0; round < 10; round++) {
+                        for(int i = 1; i <= 500; i++) {
+                            sum += cache.get(Integer.toString(i)).toArabic();
+                        }
+                    }
+                    return sum;
+                });
+            }
+            for(Future<Integer> result : executor.invokeAll(tasks)) {
+                assertEquals((int) result.get(), 10 * 500 * 501 / 2);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        CacheStats stats = cache.stats();
+        assertEquals(stats.getHits() + stats.getMisses(), 4 * 10 * 500);
+        assertTrue(stats.getHitRate() > 0.9);
+    }
+
+    @Test
+    public void ConcurrentMissesShareConverter() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for(int round = 0; round < 100; round++) {
+                ConverterCache cache = new ConverterCache(64);
+                CyclicBarrier barrier = new CyclicBarrier(8);
+                List<Callable<ElbonianArabicConverter>> tasks = new ArrayList<>();
+                for(int t = 0; t < 8; t++) {
+                    tasks.add(() -> {
+                        barrier.await();
+                        return cache.get("MMCXX");
+                    });
+                }
+                List<Future<ElbonianArabicConverter>> results = executor.invokeAll(tasks);
+                for(Future<ElbonianArabicConverter> result : results) {
+                    assertSame(result.get(), results.get(0).get());
+                }
+                assertEquals(cache.stats().getSize(), 1);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void SizeSurvivesClearDuringEvictions() throws Exception {
+        ConverterCache cache = new ConverterCache(4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for(int t = 0; t < 3; t++) {
+                tasks.add(() -> {
+                    for(int i = 0; i < 20000; i++) {
+                        cache.get(Integer.toString(1 + i % 50));
+                    }
+                    return null;
+                });
+            }
+            tasks.add(() -> {
+                for(int i = 0; i < 2000; i++) {
+                    cache.clear();
+                }
+                return null;
+            });
+            for(Future<Void> result : executor.invokeAll(tasks)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long size = cache.stats().getSize();
+        assertTrue(size + " entries", size >= 0 && size <= 4);
+        cache.clear();
+        assertEquals(cache.stats().getSize(), 0);
+    }
+
+    @Test
+    public void CapacityRoundsUp() throws MalformedNumberException, ValueOutOfBoundsException {
+        int[] capacities = {0, 1, 4, 7, 9};
+        int[] expected = {4, 4, 4, 8, 16};
+        for(int i = 0; i < capacities.length; i++) {
+            ConverterCache cache = new ConverterCache(capacities[i]);
+            assertEquals(cache.stats().getCapacity(), expected[i]);
+            assertEquals(cache.get("MMCXX").toArabic(), 2120);
+            assertSame(cache.get("MMCXX"), cache.get("MMCXX"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void NegativeCapacity() {
+        new ConverterCache(-1);
+    }
+
+    @Test
+    public void SharedFactory() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertSame(ElbonianArabicConverter.of(" dXI "), ElbonianArabicConverter.of(" dXI "));
+        assertEquals(ElbonianArabicConverter.of(" dXI ").toArabic(), 411);
+        assertTrue(ElbonianArabicConverter.cacheStats().getHits() >= 2);
+    }
+
+}
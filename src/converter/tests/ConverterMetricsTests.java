@@ -0,0 +1,66 @@
+package converter.tests;
+
+import converter.ConverterMetrics;
+import converter.ElbonianArabicConverter;
+import converter.MetricsSnapshot;
+import converter.exceptions.FailureReason;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ConverterMetrics class.
+ */
+public class ConverterMetricsTests {
+
+    @Before
+    public void enable() {
+        ConverterMetrics.reset();
+        ConverterMetrics.setEnabled(true);
+    }
+
+    @After
+    public void disable() {
+        ConverterMetrics.setEnabled(false);
+        ConverterMetrics.reset();
+    }
+
+    // Creates a converter, ignoring the exception for an invalid number.
+    private static ElbonianArabicConverter create(String number) {
+        try {
+            return new ElbonianArabicConverter(number, false);
+        } catch(Exception e) {
+            return null;
+        }
+    }
+
+    @Test
+    public void CountsByReason() {
+        create("MMCXX");
+        create("MMn");
+        create("MdC");
+        create("10000");
+        create("");
+        MetricsSnapshot snapshot = ConverterMetrics.snapshot();
+        assertEquals(snapshot.getConstructions(), 5);
+        assertEquals(snapshot.getRejections(), 4);
+        assertEquals(snapshot.getRejections(FailureReason.LETTER_RULE), 2);
+        assertEquals(snapshot.getRejections(FailureReason.OUT_OF_BOUNDS), 1);
+        assertEquals(snapshot.getRejections(FailureReason.EMPTY), 1);
+        assertEquals(snapshot.getConstructionLatency().getCount(), 5);
+        assertTrue(snapshot.getConstructionLatency().getPercentile(100) > 0);
+    }
+
+    @Test
+    public void DisabledCountsNothing() {
+        ConverterMetrics.setEnabled(false);
+        create("MMCXX").toArabic();
+        create("MMn");
+        MetricsSnapshot snapshot = ConverterMetrics.snapshot();
+        assertEquals(snapshot.getConstructions(), 0);
+        assertEquals(snapshot.getRejections(), 0);
+    }
+}
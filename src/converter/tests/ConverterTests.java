@@ -1,11 +1,15 @@
 package converter.tests;
 
 import converter.ElbonianArabicConverter;
+import converter.exceptions.FailureReason;
 import converter.exceptions.MalformedNumberException;
 import converter.exceptions.ValueOutOfBoundsException;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 /**
  * Test cases for the ElbonianArabicConverter class.
@@ -432,4 +436,124 @@ public class ConverterTests {
     public void SpecialCharacter13() throws MalformedNumberException, ValueOutOfBoundsException {
         ElbonianArabicConverter converter = new ElbonianArabicConverter("asdfadsf");
     }
-}
\ No newline at end of file
+
+    // Every value in the Elbonian number system
+    @Test
+    public void RoundTripAllValues() throws MalformedNumberException, ValueOutOfBoundsException {
+        for(int i = 1; i <= 9999; i++) {
+            String elbonian = new ElbonianArabicConverter(Integer.toString(i)).toElbonian();
+            assertEquals(new ElbonianArabicConverter(elbonian).toArabic(), i);
+            assertEquals(new ElbonianArabicConverter(elbonian).toElbonian(), elbonian);
+        }
+    }
+
+    // Decimals that round onto a bound are still decimals
+    @Test (expected = MalformedNumberException.class)
+    public void DecimalRoundsToOne() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("0.99999999999999999");
+    }
+
+    @Test (expected = ValueOutOfBoundsException.class)
+    public void DecimalBelowOne() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("0.9999");
+    }
+
+    @Test (expected = MalformedNumberException.class)
+    public void DecimalRoundsToMax() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("9999.0000000000001");
+    }
+
+    @Test (expected = ValueOutOfBoundsException.class)
+    public void DecimalAboveMax() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("9999.001");
+    }
+
+    @Test
+    public void ArabicWithPlusSign() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("+12");
+        assertEquals(converter.toElbonian(), "XII");
+    }
+
+    // Floating point literals that are not plain decimals
+    @Test (expected = MalformedNumberException.class)
+    public void ArabicExponent() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("1e3");
+    }
+
+    @Test (expected = MalformedNumberException.class)
+    public void ArabicNaN() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("NaN");
+    }
+
+    // TRY PARSE -------------------------------------------------------------------
+    @Test
+    public void TryParseValid() {
+        assertEquals(ElbonianArabicConverter.tryParse(" 2120 "), 2120);
+        assertEquals(ElbonianArabicConverter.tryParse("xxMMCXXxx", 2, 7), 2120);
+    }
+
+    @Test
+    public void TryParseMalformed() {
+        int result = ElbonianArabicConverter.tryParse("MMC XX");
+        assertFalse(ElbonianArabicConverter.isValid(result));
+        assertEquals(ElbonianArabicConverter.failureReason(result), FailureReason.SPACE);
+        assertEquals(ElbonianArabicConverter.failureOffset(result), 3);
+    }
+
+    @Test
+    public void TryParseOrdering() {
+        int result = ElbonianArabicConverter.tryParse("MMXCX");
+        assertEquals(ElbonianArabicConverter.failureReason(result), FailureReason.ORDERING);
+        assertEquals(ElbonianArabicConverter.failureOffset(result), 3);
+    }
+
+    @Test
+    public void TryParseLetterRule() {
+        int result = ElbonianArabicConverter.tryParse("  MdC", 1, 5);
+        assertEquals(ElbonianArabicConverter.failureReason(result), FailureReason.LETTER_RULE);
+        assertEquals(ElbonianArabicConverter.failureOffset(result), 4);
+    }
+
+    @Test
+    public void TryParseOutOfBounds() {
+        int result = ElbonianArabicConverter.tryParse("10000");
+        assertEquals(ElbonianArabicConverter.failureReason(result), FailureReason.OUT_OF_BOUNDS);
+        assertEquals(ElbonianArabicConverter.failureReason(ElbonianArabicConverter.tryParse("")), FailureReason.EMPTY);
+    }
+
+    // Exceptions without stack traces
+    @Test
+    public void StacklessMalformed() throws ValueOutOfBoundsException {
+        try {
+            new ElbonianArabicConverter("MMCXXl", false);
+            fail();
+        } catch (MalformedNumberException e) {
+            assertEquals(e.getReason(), FailureReason.LETTER_RULE);
+            assertEquals(e.getOffset(), 5);
+            assertEquals(e.getStackTrace().length, 0);
+        }
+    }
+
+    @Test
+    public void StacklessOutOfBounds() throws MalformedNumberException {
+        try {
+            new ElbonianArabicConverter(" 0 ", false);
+            fail();
+        } catch (ValueOutOfBoundsException e) {
+            assertEquals(e.getReason(), FailureReason.ZERO);
+            assertEquals(e.getOffset(), 1);
+            assertEquals(e.getStackTrace().length, 0);
+        }
+    }
+
+    @Test
+    public void RepeatedCallsShareResult() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter arabic = new ElbonianArabicConverter(" 1354 ");
+        ElbonianArabicConverter elbonian = new ElbonianArabicConverter(" MCCCLv ");
+        assertSame(arabic.toElbonian(), arabic.toElbonian());
+        assertSame(elbonian.toElbonian(), arabic.toElbonian());
+        assertEquals(elbonian.toElbonian(), "MCCCLv");
+        assertEquals(elbonian.toArabic(), 1354);
+        assertEquals(arabic.toArabic(), 1354);
+    }
+}
@@ -0,0 +1,68 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianCodec;
+import converter.exceptions.FailureReason;
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ElbonianCodec class.
+ */
+public class ElbonianCodecTests {
+
+    @Test
+    public void DecodeBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        buffer.put("frame: MMCXX ;".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(ElbonianCodec.decode(buffer, 6, 13), 2120);
+        assertEquals(buffer.position(), 14);
+    }
+
+    @Test
+    public void DecodeRemaining() {
+        ByteBuffer buffer = ByteBuffer.wrap("xx1354".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2);
+        assertEquals(ElbonianCodec.decode(buffer), 1354);
+    }
+
+    @Test
+    public void DecodeArrayMalformed() {
+        byte[] bytes = "MMCé".getBytes(StandardCharsets.UTF_8);
+        int result = ElbonianCodec.decode(bytes, 0, bytes.length);
+        assertEquals(ElbonianArabicConverter.failureReason(result), FailureReason.SPECIAL_CHARACTER);
+        assertEquals(ElbonianArabicConverter.failureOffset(result), 3);
+    }
+
+    @Test
+    public void EncodeAllValues() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        byte[] bytes = new byte[16];
+        for(int i = 1; i <= 9999; i++) {
+            buffer.clear();
+            int length = ElbonianCodec.encode(i, buffer);
+            assertEquals(ElbonianCodec.encode(i, bytes, 0), length);
+            assertEquals(ElbonianCodec.decode(bytes, 0, length), i);
+            buffer.flip();
+            assertEquals(ElbonianCodec.decode(buffer), i);
+        }
+    }
+
+    @Test
+    public void EncodeOutOfBounds() {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        assertEquals(ElbonianCodec.encode(0, buffer), -1);
+        assertEquals(ElbonianCodec.encode(10000, new byte[16], 0), -1);
+        assertEquals(buffer.position(), 0);
+    }
+
+    @Test (expected = BufferOverflowException.class)
+    public void EncodeOverflow() {
+        ElbonianCodec.encode(8888, ByteBuffer.allocate(8));
+    }
+}
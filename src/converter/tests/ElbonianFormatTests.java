@@ -0,0 +1,106 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianFormat;
+import converter.ElbonianNumber;
+import org.junit.Test;
+
+import java.text.FieldPosition;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.text.ParsePosition;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test cases for the ElbonianFormat class.
+ */
+public class ElbonianFormatTests {
+
+    private final ElbonianFormat format = new ElbonianFormat();
+
+    @Test
+    public void FormatMatchesConverter() throws Exception {
+        for(int value = 1; value <= 9999; value++) {
+            String numeral = new ElbonianArabicConverter(Integer.toString(value)).toElbonian();
+            assertEquals(format.format(value), numeral);
+            assertEquals(format.parse(numeral), ElbonianNumber.valueOf(value));
+        }
+    }
+
+    @Test
+    public void FormatAppends() throws Exception {
+        StringBuffer buffer = new StringBuffer("Total: ");
+        FieldPosition pos = new FieldPosition(NumberFormat.INTEGER_FIELD);
+        format.format(2120L, buffer, pos);
+        assertEquals(buffer.toString(), "Total: MMCXX");
+        assertEquals(pos.getBeginIndex(), 7);
+        assertEquals(pos.getEndIndex(), 12);
+        assertEquals(format.format(42.0), "lII");
+        assertEquals(format.format(ElbonianNumber.valueOf(42)), "lII");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void FormatOutOfRange() {
+        format.format(10000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void FormatFraction() {
+        format.format(42.5);
+    }
+
+    @Test
+    public void ParseInPlace() throws Exception {
+        ParsePosition pos = new ParsePosition(7);
+        Number value = format.parse("Total: MMCXX items", pos);
+        assertEquals(value.intValue(), 2120);
+        assertSame(value, ElbonianNumber.valueOf(2120));
+        assertEquals(pos.getIndex(), 12);
+        assertEquals(pos.getErrorIndex(), -1);
+
+        // The numeral ends at the first character that is not a letter.
+        pos = new ParsePosition(0);
+        assertEquals(format.parse("XII,", pos).intValue(), 12);
+        assertEquals(pos.getIndex(), 3);
+    }
+
+    @Test
+    public void ParseReportsErrorIndex() {
+        ParsePosition pos = new ParsePosition(2);
+        assertNull(format.parse("= MMn", pos));
+        assertEquals(pos.getIndex(), 2);
+        assertEquals(pos.getErrorIndex(), 4);
+
+        pos = new ParsePosition(0);
+        assertNull(format.parse("IM", pos));
+        assertEquals(pos.getErrorIndex(), 1);
+
+        pos = new ParsePosition(0);
+        assertNull(format.parse(" I", pos));
+        assertEquals(pos.getErrorIndex(), 0);
+    }
+
+    @Test
+    public void ParseException() {
+        try {
+            format.parse("MMCXXA");
+        } catch(ParseException e) {
+            assertEquals(e.getErrorOffset(), 5);
+            return;
+        }
+        throw new AssertionError("expected a ParseException");
+    }
+
+    @Test
+    public void MessageFormat() {
+        MessageFormat message = new MessageFormat("Chapter {0} of {1}");
+        message.setFormatByArgumentIndex(0, format);
+        message.setFormatByArgumentIndex(1, format);
+        assertEquals(message.format(new Object[] {4, 1234}), "Chapter v of MCCXXXv");
+    }
+
+}
@@ -0,0 +1,135 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianNumber;
+import converter.exceptions.FailureReason;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the ElbonianNumber class.
+ */
+public class ElbonianNumberTests {
+
+    @Test
+    public void ValueOfMatchesConverter() throws MalformedNumberException, ValueOutOfBoundsException {
+        for(int i = ElbonianNumber.MIN_VALUE; i <= ElbonianNumber.MAX_VALUE; i++) {
+            ElbonianNumber number = ElbonianNumber.valueOf(i);
+            assertEquals(number.intValue(), i);
+            assertEquals(number.toElbonian(), new ElbonianArabicConverter(Integer.toString(i)).toElbonian());
+            assertSame(ElbonianNumber.valueOf(i), number);
+        }
+    }
+
+    @Test
+    public void ParseBothForms() throws MalformedNumberException, ValueOutOfBoundsException {
+        assertSame(ElbonianNumber.parse(" MMCXX "), ElbonianNumber.valueOf(2120));
+        assertSame(ElbonianNumber.parse("2120"), ElbonianNumber.valueOf(2120));
+        assertEquals(ElbonianNumber.parse("NnDdLlVv").toString(), "NnDdLlVv");
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void ParseMalformed() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianNumber.parse("MMn");
+    }
+
+    @Test
+    public void ValueOfOutOfBounds() {
+        try {
+            ElbonianNumber.valueOf(0);
+            fail();
+        } catch(ValueOutOfBoundsException e) {
+            assertEquals(e.getReason(), FailureReason.ZERO);
+        }
+        try {
+            ElbonianNumber.valueOf(10000);
+            fail();
+        } catch(ValueOutOfBoundsException e) {
+            assertEquals(e.getReason(), FailureReason.OUT_OF_BOUNDS);
+        }
+        assertFalse(ElbonianNumber.isInRange(-1));
+        assertTrue(ElbonianNumber.isInRange(9999));
+    }
+
+    @Test
+    public void Arithmetic() throws ValueOutOfBoundsException {
+        ElbonianNumber twelve = ElbonianNumber.valueOf(12);
+        ElbonianNumber five = ElbonianNumber.valueOf(5);
+        assertEquals(twelve.add(five).intValue(), 17);
+        assertEquals(twelve.subtract(five).intValue(), 7);
+        assertEquals(twelve.multiply(five).toElbonian(), "LX");
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void AddOverflow() throws ValueOutOfBoundsException {
+        ElbonianNumber.valueOf(9999).add(ElbonianNumber.valueOf(1));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void SubtractToZero() throws ValueOutOfBoundsException {
+        ElbonianNumber.valueOf(5).subtract(ElbonianNumber.valueOf(5));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void MultiplyOverflow() throws ValueOutOfBoundsException {
+        ElbonianNumber.valueOf(9999).multiply(ElbonianNumber.valueOf(9999));
+    }
+
+    @Test
+    public void CompareAndEquals() throws ValueOutOfBoundsException {
+        ElbonianNumber small = ElbonianNumber.valueOf(40);
+        ElbonianNumber large = ElbonianNumber.valueOf(4000);
+        assertTrue(small.compareTo(large) < 0);
+        assertTrue(large.compareTo(small) > 0);
+        assertEquals(small.compareTo(ElbonianNumber.valueOf(40)), 0);
+        assertEquals(small, ElbonianNumber.valueOf(40));
+        assertNotEquals(small, large);
+        assertEquals(small.hashCode(), ElbonianNumber.valueOf(40).hashCode());
+    }
+
+    @Test
+    public void SerializesToSharedInstance() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ElbonianNumber.valueOf(1354));
+        }
+        try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(in.readObject(), ElbonianNumber.valueOf(1354));
+        }
+    }
+
+    @Test
+    public void RejectsValueOutOfRange() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ElbonianNumber.valueOf(1354));
+        }
+        for(int value : new int[] {0, -1, 10000}) {
+            // The value is the last field in the stream.
+            byte[] crafted = bytes.toByteArray();
+            crafted[crafted.length - 2] = (byte) (value >> 8);
+            crafted[crafted.length - 1] = (byte) value;
+            try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(crafted))) {
+                in.readObject();
+                fail();
+            } catch(InvalidObjectException e) {
+                assertTrue(e.getMessage().contains(Integer.toString(value)));
+            }
+        }
+    }
+
+}
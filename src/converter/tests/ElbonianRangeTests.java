@@ -0,0 +1,95 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianRange;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ElbonianRange class.
+ */
+public class ElbonianRangeTests {
+
+    // Returns the numerals for the values with the converter.
+    private static List<String> expected(int from, int to) throws Exception {
+        List<String> numerals = new ArrayList<>();
+        for(int value = from; value <= to; value++) {
+            numerals.add(new ElbonianArabicConverter(Integer.toString(value)).toElbonian());
+        }
+        return numerals;
+    }
+
+    @Test
+    public void IteratesFullRange() throws Exception {
+        List<String> numerals = new ArrayList<>();
+        for(String numeral : ElbonianRange.of(1, 9999)) {
+            numerals.add(numeral);
+        }
+        assertEquals(numerals, expected(1, 9999));
+    }
+
+    @Test
+    public void ViewsMatchNumerals() throws Exception {
+        List<String> views = new ArrayList<>();
+        ElbonianRange.of(1, 9999).forEachView(view -> views.add(view.toString()));
+        assertEquals(views, expected(1, 9999));
+
+        // A partial range starts in the middle of every place.
+        views.clear();
+        ElbonianRange.of(4987, 5012).forEachView(view -> views.add(view.toString()));
+        assertEquals(views, expected(4987, 5012));
+    }
+
+    @Test
+    public void ViewIsReused() {
+        List<CharSequence> views = new ArrayList<>();
+        ElbonianRange.of(8, 10).forEachView(views::add);
+        assertEquals(views.size(), 3);
+        assertEquals(views.get(0), views.get(2));
+        assertEquals(views.get(0).toString(), "X");
+    }
+
+    @Test
+    public void ParallelStreams() throws Exception {
+        ElbonianRange range = ElbonianRange.of(17, 9876);
+        assertEquals(range.stream(true).collect(Collectors.toList()), expected(17, 9876));
+        assertEquals(StreamSupport.stream(range.viewSpliterator(), true).map(CharSequence::toString)
+                .collect(Collectors.toList()), expected(17, 9876));
+    }
+
+    @Test
+    public void SplitsInHalf() {
+        Spliterator<String> suffix = ElbonianRange.of(1, 100).spliterator();
+        Spliterator<String> prefix = suffix.trySplit();
+        assertEquals(prefix.estimateSize(), 50);
+        assertEquals(suffix.estimateSize(), 50);
+        assertTrue(prefix.tryAdvance(numeral -> assertEquals(numeral, "I")));
+        assertEquals(prefix.estimateSize(), 49);
+
+        Spliterator<String> single = ElbonianRange.of(5, 5).spliterator();
+        assertNull(single.trySplit());
+    }
+
+    @Test
+    public void EmptyRange() {
+        ElbonianRange range = ElbonianRange.of(10, 9);
+        assertEquals(range.size(), 0);
+        assertFalse(range.iterator().hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void OutOfRange() {
+        ElbonianRange.of(0, 10);
+    }
+
+}
@@ -0,0 +1,105 @@
+package converter.tests;
+
+import converter.ElbonianScanner;
+import converter.NumeralToken;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the ElbonianScanner class.
+ */
+public class ElbonianScannerTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Builds a long text of numerals, words and punctuation from a fixed seed.
+    private static String text(int words) {
+        String[] parts = {"MMXX", "1354", "the", "I", "Mix", "v2", "3.5", "NnDdLlVv", "10000", "MMn", "0", "dC",
+                "XVII", "(42)", "12,", "log:", "\n", "ERROR", "CCCL", "9999"};
+        Random random = new Random(3733);
+        StringBuilder text = new StringBuilder();
+        for(int i = 0; i < words; i++) {
+            text.append(parts[random.nextInt(parts.length)]).append(random.nextInt(4) == 0 ? "" : " ");
+        }
+        return text.toString();
+    }
+
+    @Test
+    public void FindsNumeralsWithOffsets() {
+        List<NumeralToken> tokens = ElbonianScanner.tokens("In MMXX, 42 of dC were v2 (MCCCLv).")
+                .collect(Collectors.toList());
+        assertEquals(tokens.size(), 3);
+        assertEquals(tokens.get(0).getStart(), 3);
+        assertEquals(tokens.get(0).getEnd(), 7);
+        assertEquals(tokens.get(0).getValue(), 2020);
+        assertEquals(tokens.get(1).getValue(), 42);
+        assertEquals(tokens.get(1).toElbonian(), "lII");
+        assertEquals(tokens.get(2).getStart(), 27);
+        assertEquals(tokens.get(2).getValue(), 1354);
+    }
+
+    @Test
+    public void PunctuationEndsCandidates() {
+        assertEquals(values("3.5"), List.of(3, 5));
+        assertEquals(values("-5"), List.of(5));
+        assertEquals(values("1,000"), List.of(1));
+    }
+
+    // Returns the values of the numerals in a text.
+    private static List<Integer> values(String text) {
+        return ElbonianScanner.tokens(text).map(NumeralToken::getValue).collect(Collectors.toList());
+    }
+
+    @Test
+    public void ParallelMatchesSequential() {
+        String text = text(200000);
+        List<NumeralToken> sequential = ElbonianScanner.tokens(text).collect(Collectors.toList());
+        List<NumeralToken> parallel = ElbonianScanner.tokens(text).parallel().collect(Collectors.toList());
+        assertEquals(parallel, sequential);
+        assertEquals(ElbonianScanner.tokens(text).parallel().count(), sequential.size());
+    }
+
+    @Test
+    public void ReaderMatchesCharSequence() {
+        String text = text(50000);
+        assertEquals(ElbonianScanner.tokens(new StringReader(text)).collect(Collectors.toList()),
+                ElbonianScanner.tokens(text).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void ReaderCandidateLongerThanBuffer() {
+        StringBuilder text = new StringBuilder("MMXX ");
+        for(int i = 0; i < 20000; i++) {
+            text.append('0');
+        }
+        text.append("12 I");
+        List<NumeralToken> tokens = ElbonianScanner.tokens(new StringReader(text.toString())).collect(Collectors.toList());
+        assertEquals(tokens.size(), 3);
+        assertEquals(tokens.get(1).getStart(), 5);
+        assertEquals(tokens.get(1).getValue(), 12);
+        assertEquals(tokens.get(2).getStart(), text.length() - 1);
+    }
+
+    @Test
+    public void MappedFileMatchesCharSequence() throws IOException {
+        String text = text(100000);
+        File file = folder.newFile("log.txt");
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.US_ASCII));
+        assertEquals(ElbonianScanner.tokens(file.toPath()).parallel().collect(Collectors.toList()),
+                ElbonianScanner.tokens(text).collect(Collectors.toList()));
+    }
+
+}
@@ -0,0 +1,97 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.ElbonianSort;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ElbonianSort class.
+ */
+public class ElbonianSortTests {
+
+    private static String[] numerals;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        numerals = new String[10000];
+        numerals[0] = "";
+        for(int value = 1; value <= 9999; value++) {
+            numerals[value] = new ElbonianArabicConverter(Integer.toString(value)).toElbonian();
+        }
+    }
+
+    // Returns random numerals from a fixed seed.
+    private static String[] shuffled(int count) {
+        Random random = new Random(3733);
+        String[] shuffled = new String[count];
+        for(int i = 0; i < count; i++) {
+            shuffled[i] = numerals[1 + random.nextInt(9999)];
+        }
+        return shuffled;
+    }
+
+    @Test
+    public void ComparatorOrdersByValue() {
+        Random random = new Random(3733);
+        for(int i = 0; i < 100000; i++) {
+            int a = 1 + random.nextInt(9999);
+            int b = 1 + random.nextInt(9999);
+            assertEquals(Integer.signum(ElbonianSort.COMPARATOR.compare(numerals[a], numerals[b])),
+                    Integer.signum(Integer.compare(a, b)));
+        }
+        for(int value = 1; value < 9999; value++) {
+            assertTrue(ElbonianSort.COMPARATOR.compare(numerals[value], numerals[value + 1]) < 0);
+        }
+    }
+
+    @Test
+    public void ComparatorStopsAtFirstDifference() {
+        // Only the first symbol is needed, so the invalid tails are never read.
+        assertTrue(ElbonianSort.COMPARATOR.compare("N#", "M?") > 0);
+        assertTrue(ElbonianSort.COMPARATOR.compare(new StringBuilder("MMC"), "MMCI") < 0);
+        assertEquals(ElbonianSort.COMPARATOR.compare("MMCXX", new StringBuilder("MMCXX")), 0);
+    }
+
+    @Test
+    public void SortStrings() {
+        String[] array = shuffled(50000);
+        String[] expected = array.clone();
+        Arrays.sort(expected, ElbonianSort.COMPARATOR);
+        ElbonianSort.sort(array);
+        assertArrayEquals(array, expected);
+    }
+
+    @Test
+    public void SortRowsIsStable() {
+        String[] keys = shuffled(20000);
+        Integer[] rows = new Integer[keys.length];
+        for(int i = 0; i < rows.length; i++) {
+            rows[i] = i;
+        }
+        Integer[] expected = rows.clone();
+        Arrays.sort(expected, (a, b) -> ElbonianSort.COMPARATOR.compare(keys[a], keys[b]));
+        ElbonianSort.sort(rows, row -> keys[row]);
+        assertArrayEquals(rows, expected);
+    }
+
+    @Test
+    public void InvalidNumeralLeavesArray() {
+        String[] array = {"MMCXX", "I", "IM", "V"};
+        try {
+            ElbonianSort.sort(array);
+        } catch(IllegalArgumentException e) {
+            assertArrayEquals(array, new String[] {"MMCXX", "I", "IM", "V"});
+            return;
+        }
+        throw new AssertionError("expected an IllegalArgumentException");
+    }
+
+}
@@ -0,0 +1,63 @@
+package converter.tests;
+
+import converter.FileConverter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for the FileConverter class.
+ */
+public class FileConverterTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Writes the text to a file in the temporary folder.
+    private Path write(String name, String text) throws IOException {
+        Path path = folder.getRoot().toPath().resolve(name);
+        Files.write(path, text.getBytes(StandardCharsets.US_ASCII));
+        return path;
+    }
+
+    // Reads a file in the temporary folder.
+    private String read(Path path) throws IOException {
+        return new String(Files.readAllBytes(path), StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    public void ToElbonian() throws IOException {
+        Path in = write("in.txt", "1\n 2120 \r\nMMCXX\n0\nMMC XX\n9999");
+        Path out = folder.getRoot().toPath().resolve("out.txt");
+        Path rejects = folder.getRoot().toPath().resolve("rejects.txt");
+        assertEquals(FileConverter.toElbonian(in, out, rejects), 2);
+        assertEquals(read(out), "I\nMMCXX\nMMCXX\nNnDdLlVv\n");
+        assertEquals(read(rejects), "4\tZERO\t0\n5\tSPACE\tMMC XX\n");
+    }
+
+    @Test
+    public void ToArabic() throws IOException {
+        Path in = write("in.txt", "NnDdLlVv\n312\n\nMMn\n");
+        Path out = folder.getRoot().toPath().resolve("out.txt");
+        Path rejects = folder.getRoot().toPath().resolve("rejects.txt");
+        assertEquals(FileConverter.toArabic(in, out, rejects), 2);
+        assertEquals(read(out), "9999\n312\n");
+        assertEquals(read(rejects), "3\tEMPTY\t\n4\tLETTER_RULE\tMMn\n");
+    }
+
+    @Test
+    public void EmptyFile() throws IOException {
+        Path in = write("in.txt", "");
+        Path out = folder.getRoot().toPath().resolve("out.txt");
+        Path rejects = folder.getRoot().toPath().resolve("rejects.txt");
+        assertEquals(FileConverter.toArabic(in, out, rejects), 0);
+        assertEquals(read(out), "");
+    }
+}
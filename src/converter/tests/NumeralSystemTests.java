@@ -0,0 +1,99 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.NumeralSystem;
+import converter.exceptions.FailureReason;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the NumeralSystem class.
+ */
+public class NumeralSystemTests {
+
+    // Parses a numeral that should be rejected and returns the reason.
+    private static FailureReason reject(NumeralSystem system, String numeral) {
+        int result = system.parse(numeral);
+        assertFalse(ElbonianArabicConverter.isValid(result));
+        return ElbonianArabicConverter.failureReason(result);
+    }
+
+    @Test
+    public void ElbonianMatchesConverter() throws Exception {
+        NumeralSystem elbonian = NumeralSystem.ELBONIAN;
+        for(int value = 1; value <= 9999; value++) {
+            String numeral = new ElbonianArabicConverter(Integer.toString(value)).toElbonian();
+            assertEquals(elbonian.toNumeral(value), numeral);
+            assertEquals(elbonian.parse(numeral), value);
+        }
+        assertTrue(elbonian.getStateCount() < 100);
+    }
+
+    @Test
+    public void ElbonianRejections() {
+        NumeralSystem elbonian = NumeralSystem.ELBONIAN;
+        assertEquals(reject(elbonian, "  "), FailureReason.EMPTY);
+        assertEquals(reject(elbonian, "MM CX"), FailureReason.SPACE);
+        assertEquals(reject(elbonian, "MM-CX"), FailureReason.SPECIAL_CHARACTER);
+        assertEquals(reject(elbonian, "MMn"), FailureReason.LETTER_RULE);
+        assertEquals(reject(elbonian, "IM"), FailureReason.ORDERING);
+        assertEquals(reject(elbonian, "IIII"), FailureReason.ORDERING);
+        assertEquals(ElbonianArabicConverter.failureOffset(elbonian.parse(" MMn")), 3);
+        assertEquals(elbonian.parse(" MMCXX "), 2120);
+    }
+
+    @Test
+    public void Roman() {
+        NumeralSystem roman = NumeralSystem.ROMAN;
+        assertEquals(roman.toNumeral(1994), "MCMXCIV");
+        assertEquals(roman.toNumeral(3999), "MMMCMXCIX");
+        assertEquals(roman.toNumeral(4), "IV");
+        for(int value = 1; value <= 3999; value++) {
+            assertEquals(roman.parse(roman.toNumeral(value)), value);
+        }
+        assertEquals(reject(roman, "IIII"), FailureReason.ORDERING);
+        assertEquals(reject(roman, "IC"), FailureReason.ORDERING);
+        assertEquals(reject(roman, "MMMM"), FailureReason.ORDERING);
+        assertEquals(reject(roman, "VX"), FailureReason.ORDERING);
+    }
+
+    @Test
+    public void IncompleteNumeral() {
+        // "A" is only ever written as the first half of "AB".
+        NumeralSystem system = NumeralSystem.compile("Pairs", new String[] {"AB", "I"}, new int[] {2, 1}, 1, 3);
+        assertEquals(system.parse("ABI"), 3);
+        assertEquals(reject(system, "A"), FailureReason.ORDERING);
+        assertEquals(ElbonianArabicConverter.failureOffset(system.parse("A")), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void NoGreedyEncoding() {
+        NumeralSystem.compile("Tens", new String[] {"X"}, new int[] {10}, 1, 20);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void EncodingBreaksExclusion() {
+        NumeralSystem.compile("Broken", new String[] {"V", "I"}, new int[] {5, 1}, 1, 10, "VI");
+    }
+
+    @Test
+    public void AmbiguousNumeral() {
+        // Both 2 ("I" twice) and 3 (the token "II") are written "II".
+        try {
+            NumeralSystem.compile("Ambiguous", new String[] {"II", "I"}, new int[] {3, 1}, 1, 5);
+            fail();
+        } catch(IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("2 and 3"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void OutOfRange() {
+        NumeralSystem.ROMAN.toNumeral(4000);
+    }
+
+}
@@ -0,0 +1,202 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.PackedReader;
+import converter.PackedWriter;
+import converter.exceptions.MalformedNumberException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for the PackedWriter and PackedReader classes.
+ */
+public class PackedFormatTests {
+
+    // The offset in a stream of the encoding of its first block, after the stream header and block count.
+    private static final int FIRST_ENCODING = 12;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Writes values into a buffer and returns it ready to read.
+    private static ByteBuffer pack(int[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(16 + values.length * 2 + (values.length / 4096 + 1) * 12);
+        try(PackedWriter writer = new PackedWriter(buffer)) {
+            writer.write(values, 0, values.length);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    // Reads every value from a buffer.
+    private static int[] unpack(ByteBuffer buffer, int length) throws IOException {
+        int[] values = new int[length];
+        PackedReader reader = new PackedReader(buffer);
+        int count = 0;
+        for(int n; (n = reader.read(values, count, length)) > 0; ) {
+            count += n;
+        }
+        assertEquals(count, length);
+        assertFalse(reader.hasNext());
+        return values;
+    }
+
+    // Returns random values from a fixed seed.
+    private static int[] random(int length) {
+        Random random = new Random(3733);
+        int[] values = new int[length];
+        for(int i = 0; i < length; i++) {
+            values[i] = 1 + random.nextInt(9999);
+        }
+        return values;
+    }
+
+    @Test
+    public void RandomValuesTakeFourteenBits() throws IOException {
+        int[] values = random(100000);
+        ByteBuffer buffer = pack(values);
+        assertTrue(buffer.remaining() <= 8 + values.length * 14 / 8 + (values.length / 4096 + 1) * 13);
+        assertArrayEquals(unpack(buffer, values.length), values);
+    }
+
+    @Test
+    public void SequencesUseDeltas() throws IOException {
+        int[] values = new int[9999];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = i + 1;
+        }
+        ByteBuffer buffer = pack(values);
+        assertTrue(buffer.remaining() < values.length / 2);
+        assertArrayEquals(unpack(buffer, values.length), values);
+    }
+
+    @Test
+    public void RepeatsUseRuns() throws IOException {
+        int[] values = new int[10000];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = i < 3000 ? 42 : (i < 7000 ? 9999 : 1 + i % 3 * 4000);
+        }
+        ByteBuffer buffer = pack(values);
+        assertEquals(buffer.get(FIRST_ENCODING), 2);
+        assertArrayEquals(unpack(buffer, values.length), values);
+
+        // Runs of distant values, where every difference needs 15 bits but each run only 20.
+        int[] alternating = new int[4096];
+        for(int i = 0; i < alternating.length; i++) {
+            alternating[i] = i / 64 % 2 == 0 ? 1 : 9999;
+        }
+        buffer = pack(alternating);
+        assertEquals(buffer.get(FIRST_ENCODING), 2);
+        assertTrue(buffer.remaining() < 8 + 12 + 64 * 20 / 8 + 8);
+        assertArrayEquals(unpack(buffer, alternating.length), alternating);
+    }
+
+    @Test
+    public void BlockThatDoesNotFitIsKept() throws IOException {
+        int[] values = random(5000);
+        ByteBuffer buffer = ByteBuffer.allocate(16 + values.length * 2 + 2 * 12);
+        buffer.limit(100);
+        PackedWriter writer = new PackedWriter(buffer);
+        try {
+            writer.write(values, 0, values.length);
+            fail();
+        } catch(BufferOverflowException e) {
+            // The first full block did not fit, and none of it was written. Its last value was taken.
+            assertEquals(buffer.position(), 0);
+        }
+        buffer.limit(buffer.capacity());
+        writer.write(values, 4096, values.length);
+        writer.close();
+        buffer.flip();
+        assertArrayEquals(unpack(buffer, values.length), values);
+    }
+
+    @Test
+    public void ConstantUsesEmptyDeltas() throws IOException {
+        // A difference of 0 fits in 0 bits, so a block of one value is all header.
+        int[] constant = new int[5000];
+        java.util.Arrays.fill(constant, 7);
+        ByteBuffer buffer = pack(constant);
+        assertEquals(buffer.get(FIRST_ENCODING), 1);
+        assertTrue(buffer.remaining() < 40);
+        assertArrayEquals(unpack(buffer, constant.length), constant);
+    }
+
+    @Test
+    public void FileChannels() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("values.elbp");
+        int[] values = random(10000);
+        try(PackedWriter writer = new PackedWriter(FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE))) {
+            writer.writeNumber(" MMCXX ");
+            writer.writeNumber("42");
+            writer.write(values, 0, values.length);
+        }
+        try(PackedReader reader = new PackedReader(FileChannel.open(path, StandardOpenOption.READ))) {
+            assertEquals(reader.nextInt(), 2120);
+            assertEquals(reader.nextElbonian(), "lII");
+            for(int value : values) {
+                assertEquals(reader.nextElbonian(), new ElbonianArabicConverter(Integer.toString(value)).toElbonian());
+            }
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    public void EmptyStream() throws IOException {
+        ByteBuffer buffer = pack(new int[0]);
+        assertEquals(buffer.remaining(), 8);
+        assertFalse(new PackedReader(buffer).hasNext());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void WriteOutOfRange() throws IOException {
+        new PackedWriter(ByteBuffer.allocate(64)).write(10000);
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void WriteMalformed() throws Exception {
+        new PackedWriter(ByteBuffer.allocate(64)).writeNumber("IM");
+    }
+
+    @Test(expected = IOException.class)
+    public void WrongMagic() throws IOException {
+        ByteBuffer buffer = pack(random(10));
+        buffer.put(0, (byte) 0);
+        new PackedReader(buffer).hasNext();
+    }
+
+    @Test(expected = EOFException.class)
+    public void Truncated() throws IOException {
+        ByteBuffer buffer = pack(random(10));
+        buffer.limit(buffer.limit() - 1);
+        new PackedReader(buffer).hasNext();
+    }
+
+    @Test(expected = IOException.class)
+    public void CorruptValue() throws IOException {
+        // The first difference becomes +10000, which goes past 9999.
+        ByteBuffer buffer = pack(new int[] {1, 9999, 5000});
+        buffer.put(20, (byte) 0x9C);
+        buffer.put(21, (byte) 0x40);
+        new PackedReader(buffer).hasNext();
+    }
+
+}
@@ -0,0 +1,118 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ChunkReport;
+import converter.ParallelConverter;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the ParallelConverter class.
+ */
+public class ParallelConverterTests {
+
+    // Counts the failures in every chunk and checks that the chunks cover the input in order.
+    private static int failures(List<ChunkReport> reports, int length) {
+        int failures = 0;
+        int next = 0;
+        for(ChunkReport report : reports) {
+            assertEquals(report.getFrom(), next);
+            next = report.getTo();
+            failures += report.getFailures();
+        }
+        assertEquals(next, length);
+        return failures;
+    }
+
+    @Test
+    public void ArabicToElbonianInOrder() {
+        int[] in = new int[100000];
+        for(int i = 0; i < in.length; i++) {
+            in[i] = i % 10001;
+        }
+        String[] out = new String[in.length];
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<ChunkReport> reports;
+        try {
+            reports = ParallelConverter.toElbonian(in, out, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(reports.size() > 1);
+        assertEquals(failures(reports, in.length), 19);
+        String[] expected = new String[in.length];
+        BatchConverter.toElbonian(in, expected);
+        for(int i = 0; i < in.length; i++) {
+            assertEquals(out[i], expected[i]);
+        }
+        assertNull(out[10001]);
+        assertEquals(out[10002], "I");
+    }
+
+    @Test
+    public void ElbonianToArabicInOrder() {
+        CharSequence[] in = new CharSequence[50000];
+        for(int i = 0; i < in.length; i++) {
+            in[i] = i % 2 == 0 ? "MMCXX" : Integer.toString(i);
+        }
+        int[] out = new int[in.length];
+        byte[] status = new byte[in.length];
+        assertEquals(failures(ParallelConverter.toArabic(in, out, status), in.length), 20000);
+        assertEquals(out[2], 2120);
+        assertEquals(out[9999], 9999);
+        assertEquals(status[10001], 6);
+    }
+
+    @Test
+    public void SmallBatchIsSequential() {
+        List<String> in = new LinkedList<>();
+        in.add("X");
+        in.add("MdC");
+        int[] out = new int[2];
+        byte[] status = new byte[2];
+        List<ChunkReport> reports = ParallelConverter.toArabic(in, out, status);
+        assertEquals(reports.size(), 1);
+        assertEquals(reports.get(0).getFailures(), 1);
+        assertEquals(out[0], 10);
+    }
+
+    @Test
+    public void LargeList() {
+        List<String> in = new ArrayList<>();
+        for(int i = 1; i <= 9999; i++) {
+            in.add(Integer.toString(i));
+        }
+        int[] out = new int[in.size()];
+        byte[] status = new byte[in.size()];
+        assertEquals(failures(ParallelConverter.toArabic(in, out, status), in.size()), 0);
+        assertEquals(out[4999], 5000);
+    }
+
+    @Test
+    public void LargeListOnPool() {
+        List<String> in = new ArrayList<>();
+        for(int i = 0; i < 20000; i++) {
+            in.add(i % 2 == 0 ? "MMCXX" : "IM");
+        }
+        int[] out = new int[in.size()];
+        byte[] status = new byte[in.size()];
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<ChunkReport> reports = ParallelConverter.toArabic(in, out, status, pool);
+            assertTrue(reports.size() > 1);
+            assertEquals(failures(reports, in.size()), 10000);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(out[0], 2120);
+        assertEquals(status[1], 9);
+    }
+}
@@ -0,0 +1,128 @@
+package converter.tests;
+
+import converter.ElbonianArabicConverter;
+import converter.FileConverter;
+import converter.TableFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the TableFile class.
+ */
+public class TableFileTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Writes a table file to the temporary folder.
+    private Path table() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("elbonian.table");
+        TableFile.write(path);
+        return path;
+    }
+
+    @Test
+    public void MatchesConverter() throws Exception {
+        TableFile file = TableFile.open(table());
+        for(int value = 1; value <= 9999; value++) {
+            String numeral = new ElbonianArabicConverter(Integer.toString(value)).toElbonian();
+            assertEquals(file.toElbonian(value), numeral);
+            assertEquals(file.toArabic(numeral), value);
+        }
+    }
+
+    @Test
+    public void InvalidNumerals() throws IOException {
+        TableFile file = TableFile.open(table());
+        assertEquals(file.toArabic(""), -1);
+        assertEquals(file.toArabic("IM"), -1);
+        assertEquals(file.toArabic("MMCXXA"), -1);
+        assertEquals(file.toArabic("IIII"), -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void OutOfRange() throws IOException {
+        TableFile.open(table()).toElbonian(10000);
+    }
+
+    @Test(expected = IOException.class)
+    public void WrongMagic() throws IOException {
+        Path path = table();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[0] = 0;
+        Files.write(path, bytes);
+        TableFile.open(path);
+    }
+
+    @Test(expected = IOException.class)
+    public void Truncated() throws IOException {
+        Path path = table();
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, java.util.Arrays.copyOf(bytes, bytes.length - 1));
+        TableFile.open(path);
+    }
+
+    @Test(expected = IOException.class)
+    public void CorruptTrie() throws IOException {
+        Path path = table();
+        byte[] bytes = Files.readAllBytes(path);
+
+        // The first trie entry, node 0 followed by 'N', becomes -1.
+        int trie = 16 + 12 + 4 * 10001;
+        bytes[trie] = (byte) 0xFF;
+        bytes[trie + 1] = (byte) 0xFF;
+        Files.write(path, bytes);
+        TableFile.open(path);
+    }
+
+    @Test(expected = IOException.class)
+    public void CorruptOffsets() throws IOException {
+        Path path = table();
+        byte[] bytes = Files.readAllBytes(path);
+
+        // The start of value 1 moves past the start of value 2.
+        bytes[16 + 12 + 4 + 3] = 100;
+        Files.write(path, bytes);
+        TableFile.open(path);
+    }
+
+    @Test
+    public void MappedConverterMatchesHeap() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for(int value = 1; value <= 9999; value++) {
+            text.append(value).append('\n');
+        }
+        text.append("0\nabc\n");
+        Path in = folder.getRoot().toPath().resolve("in.txt");
+        Files.write(in, text.toString().getBytes(StandardCharsets.US_ASCII));
+
+        Path out = folder.getRoot().toPath().resolve("out.txt");
+        Path rejects = folder.getRoot().toPath().resolve("rejects.txt");
+        FileConverter.toElbonian(in, out, rejects);
+
+        Path mappedOut = folder.getRoot().toPath().resolve("mapped-out.txt");
+        Path mappedRejects = folder.getRoot().toPath().resolve("mapped-rejects.txt");
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        Process process = new ProcessBuilder(java, "-Dconverter.table=" + table(),
+                "-cp", System.getProperty("java.class.path"), "converter.FileConverter", "elbonian",
+                in.toString(), mappedOut.toString(), mappedRejects.toString())
+                .redirectErrorStream(true).start();
+        assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.US_ASCII);
+        assertEquals(output.trim(), "2 lines rejected");
+        assertEquals(Files.readAllLines(mappedOut), Files.readAllLines(out));
+        assertEquals(Files.readAllLines(mappedRejects), Files.readAllLines(rejects));
+    }
+
+}
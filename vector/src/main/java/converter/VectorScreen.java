@@ -0,0 +1,119 @@
+package converter;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * A SymbolScreen that classifies 16 bytes at a time with vector instructions. Every Elbonian numeral fits
+ * in one vector, so a number is screened with one load, two table lookups on the low and high nibble of
+ * each byte, and one OR across the lanes. BatchValidator loads this class by name when it is on the class
+ * path.
+ *
+ * @version 3/18/17
+ */
+final class VectorScreen implements SymbolScreen {
+
+    // 16 lanes is enough for the longest numeral and is supported on every x86-64 and AArch64 host.
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_128;
+
+    // The class bit of every symbol and of the digits. A byte is in a class if both the entry for its low
+    // nibble and the entry for its high nibble have the class bit, and no two classes share both nibbles,
+    // so each byte has at most one bit. The symbols in the letter rules come first so their bits line up.
+    private static final String CLASSES = String.join("", ElbonianTable.EXCLUSIVE);
+    private static final int DIGIT_CLASS = 1 << 8;
+
+    // The class bits of each nibble, in two tables because there are more than 8 classes.
+    private static final ByteVector LOW_RULES;
+    private static final ByteVector HIGH_RULES;
+    private static final ByteVector LOW_OTHERS;
+    private static final ByteVector HIGH_OTHERS;
+
+    // The summary bits of each combination of letter rule classes, and of the other classes.
+    private static final int[] RULE_SUMMARY = new int[256];
+    private static final int[] OTHER_SUMMARY = new int[256];
+
+    // Screens the end of an array that is too short for a full vector load.
+    private static final SymbolScreen TAIL = new ScalarScreen();
+
+    // LANES[n] selects the first n lanes.
+    @SuppressWarnings("unchecked")
+    private static final VectorMask<Byte>[] LANES = new VectorMask[SPECIES.length() + 1];
+
+    static {
+        byte[] lowRules = new byte[SPECIES.length()];
+        byte[] highRules = new byte[SPECIES.length()];
+        byte[] lowOthers = new byte[SPECIES.length()];
+        byte[] highOthers = new byte[SPECIES.length()];
+        int[] bitSummary = new int[16];
+
+        // The letter rule symbols, one bit each in the first tables.
+        for(int bit = 0; bit < CLASSES.length(); bit++) {
+            char c = CLASSES.charAt(bit);
+            lowRules[c & 0x0F] |= (byte) (1 << bit);
+            highRules[c >> 4] |= (byte) (1 << bit);
+            bitSummary[bit] = 1 << ElbonianTable.symbolIndex(c);
+        }
+
+        // The other symbols and the digits, one bit each in the second tables.
+        int bit = 0;
+        for(char c : ElbonianTable.SYMBOLS) {
+            if(CLASSES.indexOf(c) < 0) {
+                lowOthers[c & 0x0F] |= (byte) (1 << bit);
+                highOthers[c >> 4] |= (byte) (1 << bit);
+                bitSummary[8 + bit] = 1 << ElbonianTable.symbolIndex(c);
+                bit++;
+            }
+        }
+        for(char c = '0'; c <= '9'; c++) {
+            lowOthers[c & 0x0F] |= (byte) (1 << bit);
+        }
+        highOthers['0' >> 4] |= (byte) (1 << bit);
+        bitSummary[8 + bit] = DIGIT;
+
+        for(int bits = 0; bits < 256; bits++) {
+            for(int b = 0; b < 8; b++) {
+                if((bits & (1 << b)) != 0) {
+                    RULE_SUMMARY[bits] |= bitSummary[b];
+                    OTHER_SUMMARY[bits] |= bitSummary[8 + b];
+                }
+            }
+        }
+        LOW_RULES = ByteVector.fromArray(SPECIES, lowRules, 0);
+        HIGH_RULES = ByteVector.fromArray(SPECIES, highRules, 0);
+        LOW_OTHERS = ByteVector.fromArray(SPECIES, lowOthers, 0);
+        HIGH_OTHERS = ByteVector.fromArray(SPECIES, highOthers, 0);
+        for(int n = 0; n < LANES.length; n++) {
+            LANES[n] = VectorMask.fromLong(SPECIES, (1L << n) - 1);
+        }
+    }
+
+    @Override
+    public int screen(byte[] text, int from, int to) {
+        int summary = 0;
+        for(int i = from; i < to; i += SPECIES.length()) {
+            if(i + SPECIES.length() > text.length) {
+                return summary | TAIL.screen(text, i, to);
+            }
+
+            // A full vector is loaded and the lanes past the end of the number are cleared, which is
+            // cheaper than a masked load. Bytes above 0x7F have a high nibble with no class bits.
+            int count = Math.min(to - i, SPECIES.length());
+            ByteVector bytes = ByteVector.fromArray(SPECIES, text, i);
+            ByteVector low = bytes.and((byte) 0x0F);
+            ByteVector high = bytes.lanewise(VectorOperators.LSHR, 4);
+            ByteVector rules = low.selectFrom(LOW_RULES).and(high.selectFrom(HIGH_RULES));
+            ByteVector others = low.selectFrom(LOW_OTHERS).and(high.selectFrom(HIGH_OTHERS));
+            ByteVector classes = rules.or(others).blend((byte) 0, LANES[count].not());
+
+            summary |= RULE_SUMMARY[rules.blend((byte) 0, LANES[count].not()).reduceLanes(VectorOperators.OR) & 0xFF];
+            summary |= OTHER_SUMMARY[others.blend((byte) 0, LANES[count].not()).reduceLanes(VectorOperators.OR) & 0xFF];
+            if(classes.compare(VectorOperators.NE, (byte) 0).trueCount() != count) {
+                summary |= OTHER;
+            }
+        }
+        return summary;
+    }
+
+}
@@ -0,0 +1,56 @@
+package converter.tests;
+
+import converter.BatchValidator;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for the VectorScreen class.
+ */
+public class VectorScreenTests {
+
+    @Test
+    public void VectorScreenIsLoaded() {
+        assertTrue(BatchValidator.isVectorized());
+    }
+
+    @Test
+    public void MatchesScalarScreen() {
+        // Random runs of symbols, digits, spaces and other bytes, up to three vectors long, packed so
+        // that some numbers end at the very end of the array.
+        Random random = new Random(3733);
+        byte[] alphabet = "NnMDdCLlXVvI0123456789 .+-#A".getBytes(StandardCharsets.US_ASCII);
+        int count = 20000;
+        int[] offsets = new int[count + 1];
+        byte[] text = new byte[count * 48];
+        int position = 0;
+        for(int i = 0; i < count; i++) {
+            offsets[i] = position;
+            int length = random.nextInt(i % 4 == 0 ? 48 : 17);
+            for(int j = 0; j < length; j++) {
+                text[position++] = random.nextInt(4) == 0
+                        ? alphabet[random.nextInt(alphabet.length)]
+                        : alphabet[random.nextInt(12)];
+            }
+        }
+        offsets[count] = position;
+        text = Arrays.copyOf(text, position);
+
+        int[] vector = new int[count];
+        byte[] vectorStatus = new byte[count];
+        int[] scalar = new int[count];
+        byte[] scalarStatus = new byte[count];
+        assertEquals(BatchValidator.toArabic(text, offsets, vector, vectorStatus),
+                BatchValidator.toArabicScalar(text, offsets, scalar, scalarStatus));
+        assertArrayEquals(vector, scalar);
+        assertArrayEquals(vectorStatus, scalarStatus);
+    }
+
+}